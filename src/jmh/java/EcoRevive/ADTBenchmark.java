@@ -0,0 +1,85 @@
+package EcoRevive;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Steady-state operations on the custom ADTs; every benchmark leaves the structure at its original size
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class ADTBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private MyLinkedList<EWasteItem> list;
+    private MyQueue<EWasteItem> queue;
+    private MyConcurrentQueue<EWasteItem> concurrentQueue;
+    private MyStack<EWasteItem> stack;
+    private EWasteItem extra;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EWasteItem[] items = BenchmarkData.array(size, 42);
+        list = BenchmarkData.list(items);
+        queue = new MyQueue<>();
+        concurrentQueue = new MyConcurrentQueue<>();
+        stack = new MyStack<>();
+        for (EWasteItem item : items) {
+            queue.enqueue(item);
+            concurrentQueue.enqueue(item);
+            stack.push(item);
+        }
+        extra = BenchmarkData.item(size + 1, new java.util.Random(7));
+    }
+
+    @Benchmark
+    public Node<EWasteItem> linkedListAdd() {
+        Node<EWasteItem> node = list.addNode(extra);
+        list.unlink(node);
+        return node;
+    }
+
+    @Benchmark
+    public EWasteItem linkedListGetMiddle() {
+        return list.get(size / 2);
+    }
+
+    // Worst case for remove(T): the value sits at the tail and is re-appended afterwards
+    @Benchmark
+    public boolean linkedListRemoveByValue() {
+        list.add(extra);
+        return list.remove(extra);
+    }
+
+    @Benchmark
+    public EWasteItem queueEnqueueDequeue() {
+        queue.enqueue(extra);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public EWasteItem concurrentQueueEnqueueDequeue() {
+        concurrentQueue.enqueue(extra);
+        return concurrentQueue.dequeue();
+    }
+
+    @Benchmark
+    public EWasteItem stackPushPop() {
+        stack.push(extra);
+        return stack.pop();
+    }
+}
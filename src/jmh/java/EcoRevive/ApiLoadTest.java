@@ -0,0 +1,223 @@
+package EcoRevive;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Closed-loop load test for ApiServer on loopback: each client sends its next request as soon
+// as the previous one answers. Prints requests per second and latency percentiles per endpoint.
+//   mvn -P benchmarks compile exec:java -Dexec.mainClass=EcoRevive.ApiLoadTest \
+//       -Dexec.args="--items 100000 --clients 64 --seconds 30"
+public class ApiLoadTest {
+    private static final String[] SEARCH_TERMS = { "ipad", "dell", "galaxy", "bravia", "toaster", "nokia", "think", "dyson" };
+
+    // Request mix, in percent
+    private enum Op {
+        GET_ITEM("GET /api/items/{id}", 50),
+        SEARCH("GET /api/items?q=", 20),
+        STATS("GET /api/stats", 10),
+        ENQUEUE("POST /api/queue", 12),
+        UPDATE("PUT /api/items/{id}", 5),
+        PROCESS("POST /api/queue/process", 3);
+
+        final String label;
+        final int weight;
+
+        Op(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+    }
+
+    // Per-client latencies, merged after the run so clients never contend on shared state
+    private static final class Recorder {
+        final long[][] nanos = new long[Op.values().length][];
+        final int[] counts = new int[Op.values().length];
+        int errors;
+
+        Recorder() {
+            Arrays.setAll(nanos, i -> new long[1024]);
+        }
+
+        void record(Op op, long latency) {
+            int i = op.ordinal();
+            if (counts[i] == nanos[i].length) {
+                nanos[i] = Arrays.copyOf(nanos[i], counts[i] * 2);
+            }
+            nanos[i][counts[i]++] = latency;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int items = intArg(args, "--items", 100_000);
+        int clients = intArg(args, "--clients", 64);
+        int seconds = intArg(args, "--seconds", 20);
+        int warmupSeconds = intArg(args, "--warmup", 5);
+
+        RecyclingManager manager = new RecyclingManager();
+        manager.setRecycledItems(BenchmarkData.list(items, 42));
+        try (ApiServer server = new ApiServer(manager, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            server.start();
+            HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(pool)
+                .build();
+            String base = "http://127.0.0.1:" + server.getPort();
+
+            System.out.println("Warming up for " + warmupSeconds + " s with " + clients + " clients over " + items + " items");
+            run(http, base, pool, clients, warmupSeconds, items);
+            System.out.println("Measuring for " + seconds + " s");
+            long start = System.nanoTime();
+            List<Recorder> recorders = run(http, base, pool, clients, seconds, items);
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            report(recorders, elapsed);
+        }
+    }
+
+    private static List<Recorder> run(HttpClient http, String base, ExecutorService pool, int clients,
+                                      int seconds, int items) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            long seed = c;
+            futures.add(pool.submit(() -> client(http, base, deadline, items, new Random(seed))));
+        }
+        List<Recorder> recorders = new ArrayList<>();
+        for (Future<Recorder> future : futures) {
+            recorders.add(future.get());
+        }
+        return recorders;
+    }
+
+    private static Recorder client(HttpClient http, String base, long deadline, int items, Random random) throws Exception {
+        Recorder recorder = new Recorder();
+        while (System.nanoTime() < deadline) {
+            Op op = pick(random);
+            HttpRequest request = request(op, base, items, random);
+            long start = System.nanoTime();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(op, System.nanoTime() - start);
+            // 404 is expected when a random ID has been deleted or not processed yet
+            if (response.statusCode() >= 400 && response.statusCode() != 404) {
+                recorder.errors++;
+            }
+        }
+        return recorder;
+    }
+
+    private static Op pick(Random random) {
+        int roll = random.nextInt(100);
+        for (Op op : Op.values()) {
+            roll -= op.weight;
+            if (roll < 0) {
+                return op;
+            }
+        }
+        return Op.GET_ITEM;
+    }
+
+    private static HttpRequest request(Op op, String base, int items, Random random) {
+        String id = RecyclingManager.formatId(1 + random.nextInt(items));
+        switch (op) {
+            case GET_ITEM:
+                return HttpRequest.newBuilder(URI.create(base + "/api/items/" + id)).build();
+            case SEARCH:
+                String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+                return HttpRequest.newBuilder(URI.create(base + "/api/items?limit=20&q=" + term)).build();
+            case STATS:
+                return HttpRequest.newBuilder(URI.create(base + "/api/stats")).build();
+            case ENQUEUE:
+                return HttpRequest.newBuilder(URI.create(base + "/api/queue"))
+                    .POST(HttpRequest.BodyPublishers.ofString(body(random))).build();
+            case UPDATE:
+                return HttpRequest.newBuilder(URI.create(base + "/api/items/" + id))
+                    .PUT(HttpRequest.BodyPublishers.ofString(body(random))).build();
+            default:
+                return HttpRequest.newBuilder(URI.create(base + "/api/queue/process?max=1000"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+    }
+
+    private static String body(Random random) {
+        EWasteItem item = BenchmarkData.item(0, random);
+        StringBuilder json = new StringBuilder();
+        Json.write(json, java.util.Map.of(
+            "name", item.getName(),
+            "category", item.getCategory(),
+            "weight", Math.max(0.1, item.getWeight()),
+            "condition", item.getCondition()));
+        return json.toString();
+    }
+
+    private static void report(List<Recorder> recorders, double elapsedSeconds) {
+        long total = 0;
+        int errors = 0;
+        long[][] merged = new long[Op.values().length][];
+        for (Op op : Op.values()) {
+            int i = op.ordinal();
+            int count = 0;
+            for (Recorder recorder : recorders) {
+                count += recorder.counts[i];
+            }
+            merged[i] = new long[count];
+            int at = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.nanos[i], 0, merged[i], at, recorder.counts[i]);
+                at += recorder.counts[i];
+            }
+            Arrays.sort(merged[i]);
+            total += count;
+        }
+        for (Recorder recorder : recorders) {
+            errors += recorder.errors;
+        }
+
+        System.out.printf("%-26s %10s %10s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        long[] all = new long[(int) total];
+        int at = 0;
+        for (Op op : Op.values()) {
+            long[] latencies = merged[op.ordinal()];
+            System.arraycopy(latencies, 0, all, at, latencies.length);
+            at += latencies.length;
+            row(op.label, latencies, elapsedSeconds);
+        }
+        Arrays.sort(all);
+        row("all", all, elapsedSeconds);
+        System.out.println("errors (5xx/4xx other than 404): " + errors);
+    }
+
+    private static void row(String label, long[] sorted, double elapsedSeconds) {
+        System.out.printf("%-26s %10d %10.0f %9.3f %9.3f %9.3f %9.3f%n", label, sorted.length, sorted.length / elapsedSeconds,
+                          percentile(sorted, 50), percentile(sorted, 99), percentile(sorted, 99.9),
+                          sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    // Nearest-rank percentile in milliseconds
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name)) {
+                return Integer.parseInt(args[i + 1]);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,50 @@
+package EcoRevive;
+
+import java.util.Random;
+
+// Deterministic synthetic inventories shared by the benchmarks
+final class BenchmarkData {
+    static final String[] CATEGORIES = {
+        Constants.CAT_MOBILE, Constants.CAT_LAPTOP, Constants.CAT_TABLET,
+        Constants.CAT_TV, Constants.CAT_APPLIANCE, Constants.CAT_OTHER
+    };
+    static final String[] CONDITIONS = {
+        Constants.COND_NEW, Constants.COND_USED, Constants.COND_BROKEN, Constants.COND_REFURBISHED
+    };
+    private static final String[] NAMES = {
+        "Apple iPad Air", "Dell XPS 13", "Samsung Galaxy S21", "Sony Bravia TV",
+        "Philips Toaster", "Nokia 3310", "Lenovo ThinkPad", "Dyson Vacuum"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static EWasteItem item(int id, Random random) {
+        return new EWasteItem(String.format("%03d", id),
+                              NAMES[random.nextInt(NAMES.length)] + " " + random.nextInt(1000),
+                              CATEGORIES[random.nextInt(CATEGORIES.length)],
+                              Math.round(random.nextDouble() * 200) / 10.0,
+                              CONDITIONS[random.nextInt(CONDITIONS.length)]);
+    }
+
+    static EWasteItem[] array(int count, long seed) {
+        Random random = new Random(seed);
+        EWasteItem[] items = new EWasteItem[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = item(i + 1, random);
+        }
+        return items;
+    }
+
+    static MyLinkedList<EWasteItem> list(EWasteItem[] items) {
+        MyLinkedList<EWasteItem> list = new MyLinkedList<>();
+        for (EWasteItem item : items) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    static MyLinkedList<EWasteItem> list(int count, long seed) {
+        return list(array(count, seed));
+    }
+}
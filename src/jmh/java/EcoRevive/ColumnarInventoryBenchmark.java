@@ -0,0 +1,104 @@
+package EcoRevive;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ColumnarInventory against the linked list of EWasteItem that RecyclingManager keeps, on the full
+// scans a stats or report screen runs: total weight, counts per category, one category's rows and
+// eco-points. Both hold the same skewed generated inventory. Decides whether the columnar layout is
+// worth wiring into RecyclingManager as a backend.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ColumnarInventoryBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private MyLinkedList<EWasteItem> list;
+    private ColumnarInventory columns;
+    private EcoPointsTable rules;
+    private String category;
+
+    @Setup
+    public void generate() {
+        list = new WorkloadGenerator(42).list(1, size);
+        columns = ColumnarInventory.from(list);
+        rules = EcoPointsTable.get();
+        // A mid-sized category, so the filters copy out a realistic share of the rows
+        category = Constants.CAT_TABLET;
+    }
+
+    @Benchmark
+    public double listTotalWeight() {
+        double total = 0;
+        for (EWasteItem item : list) {
+            total += item.getWeight();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double columnsTotalWeight() {
+        return columns.totalWeight();
+    }
+
+    @Benchmark
+    public Map<String, Integer> listCountByCategory() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (EWasteItem item : list) {
+            counts.merge(item.getCategory(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, Integer> columnsCountByCategory() {
+        return columns.countByCategory();
+    }
+
+    @Benchmark
+    public MyLinkedList<EWasteItem> listFilterByCategory() {
+        MyLinkedList<EWasteItem> result = new MyLinkedList<>();
+        for (EWasteItem item : list) {
+            if (item.getCategory().equals(category)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    // Includes materializing an EWasteItem per matching row
+    @Benchmark
+    public MyLinkedList<EWasteItem> columnsFilterByCategory() {
+        return columns.filterByCategory(category);
+    }
+
+    @Benchmark
+    public int listEcoPoints() {
+        int total = 0;
+        for (EWasteItem item : list) {
+            total += rules.pointsFor(item);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int columnsEcoPoints() {
+        return columns.ecoPoints();
+    }
+}
@@ -0,0 +1,81 @@
+package EcoRevive;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Eco-points scoring over a skewed generated inventory: per item through the lookup tables (the
+// InventoryStats path) and over primitive columns with the scalar loop and the Vector API kernel.
+// The kernel is not used by the application: it only earns a caller if it beats the scalar loop here.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class EcoPointsBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private EcoPointsTable rules;
+    private EWasteItem[] items;
+    private double[] weights;
+    private byte[] categoryCodes;
+    private byte[] conditionCodes;
+    private double[] base;
+    private double[] multiplier;
+
+    @Setup
+    public void generate() {
+        rules = EcoPointsTable.get();
+        items = new EWasteItem[size];
+        weights = new double[size];
+        categoryCodes = new byte[size];
+        conditionCodes = new byte[size];
+        Map<String, Integer> categories = new HashMap<>();
+        Map<String, Integer> conditions = new HashMap<>();
+        int i = 0;
+        for (EWasteItem item : new WorkloadGenerator(42).items(1, size)) {
+            items[i] = item;
+            weights[i] = item.getWeight();
+            categoryCodes[i] = categories.computeIfAbsent(item.getCategory(), key -> categories.size()).byteValue();
+            conditionCodes[i] = conditions.computeIfAbsent(item.getCondition(), key -> conditions.size()).byteValue();
+            i++;
+        }
+        base = new double[categories.size()];
+        categories.forEach((category, code) -> base[code] = rules.basePoints(category));
+        multiplier = new double[conditions.size()];
+        conditions.forEach((condition, code) -> multiplier[code] = rules.multiplier(condition));
+    }
+
+    @Benchmark
+    public int perItem() {
+        int total = 0;
+        for (EWasteItem item : items) {
+            total += rules.pointsFor(item);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int scalarColumns() {
+        return rules.sum(weights, categoryCodes, base, conditionCodes, multiplier, size);
+    }
+
+    @Benchmark
+    public int vectorColumns() {
+        return EcoPointsVector.sum(weights, categoryCodes, base, conditionCodes, multiplier,
+                                   rules.getPointsPerKg(), size);
+    }
+}
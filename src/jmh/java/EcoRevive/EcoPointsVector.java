@@ -0,0 +1,54 @@
+package EcoRevive;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API version of EcoPointsTable.sum. Base points and multipliers are gathered per lane
+// through the row's category and condition codes, the score is computed a whole vector at a time
+// and truncated to int lane by lane, so the result is bit-identical to the scalar loop.
+// Benchmark-only (EcoPointsBenchmark): the benchmarks profile is the only build that adds
+// jdk.incubator.vector, so the default build does not link the incubator module.
+final class EcoPointsVector {
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // Same vector size; D2I fills the low half of it and leaves the rest zero
+    private static final VectorSpecies<Integer> INTS = DOUBLES.withLanes(int.class);
+    // Codes are widened to int gather indexes a block at a time; a multiple of any lane count
+    private static final int BLOCK = 1024;
+
+    private EcoPointsVector() {
+    }
+
+    static int lanes() {
+        return DOUBLES.length();
+    }
+
+    static int sum(double[] weights, byte[] categoryCodes, double[] base, byte[] conditionCodes,
+                   double[] multiplier, double pointsPerKg, int size) {
+        int[] categoryIndex = new int[Math.min(BLOCK, size)];
+        int[] conditionIndex = new int[categoryIndex.length];
+        IntVector total = IntVector.zero(INTS);
+        int vectorEnd = DOUBLES.loopBound(size);
+        for (int blockStart = 0; blockStart < vectorEnd; blockStart += BLOCK) {
+            int blockLength = Math.min(BLOCK, vectorEnd - blockStart);
+            for (int j = 0; j < blockLength; j++) {
+                categoryIndex[j] = categoryCodes[blockStart + j] & 0xFF;
+                conditionIndex[j] = conditionCodes[blockStart + j] & 0xFF;
+            }
+            for (int j = 0; j < blockLength; j += DOUBLES.length()) {
+                DoubleVector points = DoubleVector.fromArray(DOUBLES, weights, blockStart + j)
+                    .mul(pointsPerKg)
+                    .add(DoubleVector.fromArray(DOUBLES, base, 0, categoryIndex, j))
+                    .mul(DoubleVector.fromArray(DOUBLES, multiplier, 0, conditionIndex, j));
+                total = total.add((IntVector) points.convert(VectorOperators.D2I, 0));
+            }
+        }
+        int sum = total.reduceLanes(VectorOperators.ADD);
+        for (int i = vectorEnd; i < size; i++) {
+            sum += EcoPointsTable.score(base[categoryCodes[i] & 0xFF], weights[i], pointsPerKg,
+                                        multiplier[conditionCodes[i] & 0xFF]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,44 @@
+package EcoRevive;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Recording cost on the instrumented hot paths; the budget is 50 ns per operation with no
+// allocation (check with -prof gc: gc.alloc.rate.norm should be 0)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long value;
+
+    @Benchmark
+    public void record() {
+        histogram.record(value++ & 0xFFFFF);
+    }
+
+    // What an instrumented method pays: two clock reads plus the record
+    @Benchmark
+    public void timedRecord() {
+        histogram.recordSince(System.nanoTime());
+    }
+
+    // All cores recording into one histogram
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void contendedRecord() {
+        histogram.recordSince(System.nanoTime());
+    }
+}
@@ -0,0 +1,196 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Contention stress test for the intake path. Many producers enqueue while one consumer drains:
+//  1. straight into MyConcurrentQueue, for raw throughput (exactly-once and per-producer order are
+//     checked by MyConcurrentQueueTest in the regular build)
+//  2. through RecyclingManager with the journal attached: every item is processed exactly once, and
+//     reopening the data directory replays the same inventory and queue
+// Prints throughput and exits with 1 if the journal phase finds a violation.
+//   mvn -P benchmarks compile exec:java -Dexec.mainClass=EcoRevive.QueueStressTest \
+//       -Dexec.args="--producers 6 --items 200000 --journal-items 20000"
+public class QueueStressTest {
+    public static void main(String[] args) throws Exception {
+        int producers = intArg(args, "--producers", 6);
+        int items = intArg(args, "--items", 200_000);
+        int journalItems = intArg(args, "--journal-items", 20_000);
+
+        List<String> failures = new ArrayList<>();
+        queue(producers, items);
+        journal(producers, journalItems, failures);
+        if (!failures.isEmpty()) {
+            for (String failure : failures) {
+                System.out.println("FAIL " + failure);
+            }
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    private static void queue(int producers, int items) throws InterruptedException {
+        MyConcurrentQueue<Long> queue = new MyConcurrentQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads.add(Thread.ofPlatform().name("producer-" + p).start(() -> {
+                await(start);
+                for (long i = 0; i < items; i++) {
+                    long value = producer << 32 | i;
+                    queue.enqueue(value, value);
+                }
+            }));
+        }
+
+        long total = (long) producers * items;
+        long received = 0;
+        long started = System.nanoTime();
+        start.countDown();
+        while (received < total) {
+            if (queue.dequeue() == null) {
+                Thread.onSpinWait();
+            } else {
+                received++;
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.printf("queue:   %d producers x %d items, %.1f M items/s%n",
+                          producers, items, total * 1e3 / elapsed);
+    }
+
+    private static void journal(int producers, int items, List<String> failures) throws Exception {
+        Path directory = Files.createTempDirectory("queue-stress");
+        try {
+            RecyclingManager manager = new RecyclingManager();
+            InventoryJournal journal = open(directory, manager);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                String name = "Producer " + p;
+                threads.add(Thread.ofPlatform().name("producer-" + p).start(() -> {
+                    await(start);
+                    for (int i = 0; i < items; i++) {
+                        manager.addItemToQueue(new EWasteItem(manager.generateNextId(), name, Constants.CAT_LAPTOP,
+                                                              1.5, Constants.COND_USED));
+                    }
+                }));
+            }
+
+            AtomicBoolean producing = new AtomicBoolean(true);
+            Thread.ofPlatform().start(() -> {
+                for (Thread thread : threads) {
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                producing.set(false);
+            });
+            long started = System.nanoTime();
+            start.countDown();
+            // Keep draining until the producers are done and the queue is empty
+            while (producing.get() || !manager.getPendingItems().isEmpty()) {
+                if (manager.processQueue(Constants.QUEUE_BATCH_SIZE).isEmpty()) {
+                    Thread.onSpinWait();
+                }
+            }
+            long elapsed = System.nanoTime() - started;
+            // Leave some items queued so replay has to rebuild the queue as well
+            for (int i = 0; i < Constants.QUEUE_BATCH_SIZE; i++) {
+                manager.addItemToQueue(new EWasteItem(manager.generateNextId(), "Left queued", Constants.CAT_TV,
+                                                      12.0, Constants.COND_BROKEN));
+            }
+
+            long total = (long) producers * items;
+            check("journal", manager, total, failures);
+            String before = contents(manager);
+            journal.close();
+            System.out.printf("journal: %d producers x %d items, %.1f k items/s%n",
+                              producers, items, total * 1e6 / elapsed);
+
+            RecyclingManager reopened = new RecyclingManager();
+            open(directory, reopened).close();
+            check("replay", reopened, total, failures);
+            if (!contents(reopened).equals(before)) {
+                failures.add("replay: inventory or queue differs from the one written");
+            }
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    private static InventoryJournal open(Path directory, RecyclingManager manager) throws IOException {
+        FileService fileService = new FileService(directory);
+        manager.finishLoading(fileService.loadInventory(Constants.LOAD_CHUNK_SIZE,
+            (chunk, loaded, total) -> manager.appendLoadedItems(chunk)));
+        InventoryJournal journal = new InventoryJournal(directory, fileService);
+        journal.open(manager);
+        return journal;
+    }
+
+    private static void check(String phase, RecyclingManager manager, long expected, List<String> failures) {
+        Set<String> ids = new HashSet<>();
+        for (EWasteItem item : manager.snapshot()) {
+            if (!ids.add(item.getId())) {
+                failures.add(phase + ": item " + item.getId() + " processed twice");
+                return;
+            }
+        }
+        if (ids.size() != expected) {
+            failures.add(phase + ": " + ids.size() + " items processed, expected " + expected);
+        }
+        if (manager.getPendingItems().size() != Constants.QUEUE_BATCH_SIZE) {
+            failures.add(phase + ": " + manager.getPendingItems().size() + " items queued, expected "
+                         + Constants.QUEUE_BATCH_SIZE);
+        }
+    }
+
+    // Inventory in order; the queue as a set, since concurrent producers have no order to keep
+    private static String contents(RecyclingManager manager) {
+        StringBuilder out = new StringBuilder();
+        for (EWasteItem item : manager.snapshot()) {
+            out.append(item).append('\n');
+        }
+        Set<String> queued = new TreeSet<>();
+        for (EWasteItem item : manager.getPendingItems()) {
+            queued.add(item.toString());
+        }
+        return out.append(queued).toString();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name)) {
+                return Integer.parseInt(args[i + 1]);
+            }
+        }
+        return defaultValue;
+    }
+}
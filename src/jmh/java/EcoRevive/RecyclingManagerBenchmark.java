@@ -0,0 +1,79 @@
+package EcoRevive;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class RecyclingManagerBenchmark {
+    private static final int QUEUE_BATCH = 1000;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private RecyclingManager manager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new RecyclingManager();
+        manager.setRecycledItems(BenchmarkData.list(size, 42));
+    }
+
+    // Refills the pending queue before every processQueue call; fresh IDs keep the ID index honest
+    @State(Scope.Benchmark)
+    public static class PendingBatch {
+        private int nextId = -1;
+
+        @Setup(Level.Invocation)
+        public void fill(RecyclingManagerBenchmark benchmark) {
+            if (nextId < 0) {
+                nextId = benchmark.size + 1;
+            }
+            Random random = new Random(nextId);
+            for (int i = 0; i < QUEUE_BATCH; i++) {
+                benchmark.manager.addItemToQueue(BenchmarkData.item(nextId++, random));
+            }
+        }
+    }
+
+    @Benchmark
+    public MyLinkedList<EWasteItem> searchTrigram() {
+        return manager.searchItems("ipad");
+    }
+
+    @Benchmark
+    public MyLinkedList<EWasteItem> searchShortQuery() {
+        return manager.searchItems("x");
+    }
+
+    @Benchmark
+    public String getStatistics() {
+        return manager.getStatistics();
+    }
+
+    @Benchmark
+    public int calculateEcoPoints() {
+        return manager.calculateEcoPoints();
+    }
+
+    @Benchmark
+    public MyLinkedList<EWasteItem> processQueue(PendingBatch pending) {
+        return manager.processQueue();
+    }
+}
@@ -0,0 +1,382 @@
+package EcoRevive;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+// Soak test: worker threads replay a mixed, skewed workload (see WorkloadGenerator) against
+// RecyclingManager, its journal and FileService for as long as asked, typically hours. Every
+// interval it prints throughput, latency percentiles, GC pauses and the live heap after GC; the
+// final report has per-operation latencies plus the heap and throughput trends, which is where
+// leaks and slowdowns show up. Give it a fixed heap so heap numbers reflect live data:
+//   MAVEN_OPTS="-Xms2g -Xmx2g" mvn -P benchmarks compile exec:java -Dexec.mainClass=EcoRevive.SoakTest \
+//       -Dexec.args="--items 200000 --threads 4 --minutes 240 --report 60"
+// Data goes to a temporary directory that is removed afterwards, or to an empty --data-dir that is kept.
+public class SoakTest {
+    // Operation mix, per mille
+    private enum Op {
+        ENQUEUE(300),
+        PROCESS(40),
+        SEARCH(250),
+        SORT(2),
+        UPDATE(200),
+        DELETE(157),
+        UNDO(50),
+        SAVE(1);
+
+        final int weight;
+
+        Op(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Op[] OPS = Op.values();
+    private static final int ALL = OPS.length;
+
+    // Enqueues turn into deletes above this share of the starting size (and back below the
+    // lower bound), so the inventory stays about the same size however long the run
+    private static final double MAX_GROWTH = 1.1;
+    private static final double MAX_SHRINK = 0.9;
+
+    private static final List<Comparator<EWasteItem>> SORT_ORDERS = List.of(
+        Comparator.comparing(EWasteItem::getName),
+        Comparator.comparingDouble(EWasteItem::getWeight).reversed(),
+        Comparator.comparing(EWasteItem::getCategory).thenComparing(EWasteItem::getName),
+        Comparator.comparing(EWasteItem::getId));
+
+    // Everything recorded during one report interval; the reporter swaps in a fresh one
+    private static final class Window {
+        // Indexed by Op ordinal, plus ALL for every operation together
+        final LatencyHistogram[] latency = new LatencyHistogram[ALL + 1];
+        final LongAdder[] misses = new LongAdder[ALL];
+        final LongAdder errors = new LongAdder();
+        final LatencyHistogram gcPauses = new LatencyHistogram();
+
+        Window() {
+            for (int i = 0; i <= ALL; i++) {
+                latency[i] = new LatencyHistogram();
+            }
+            for (int i = 0; i < ALL; i++) {
+                misses[i] = new LongAdder();
+            }
+        }
+    }
+
+    private static volatile Window interval = new Window();
+    private static final Window total = new Window();
+    private static volatile long liveHeapBytes = -1;
+    private static final AtomicBoolean errorPrinted = new AtomicBoolean();
+
+    public static void main(String[] args) throws Exception {
+        int items = intArg(args, "--items", 100_000);
+        int threads = intArg(args, "--threads", Math.max(2, Runtime.getRuntime().availableProcessors()));
+        long seconds = intArg(args, "--seconds", 60 * intArg(args, "--minutes", 60));
+        int reportSeconds = intArg(args, "--report", 60);
+        long seed = intArg(args, "--seed", 42);
+        String dataDir = stringArg(args, "--data-dir");
+
+        Path directory;
+        if (dataDir == null) {
+            directory = Files.createTempDirectory("ecorevive-soak");
+        } else {
+            directory = Paths.get(dataDir);
+            Files.createDirectories(directory);
+            try (Stream<Path> entries = Files.list(directory)) {
+                if (entries.findAny().isPresent()) {
+                    System.err.println("--data-dir must be empty: " + directory.toAbsolutePath());
+                    System.exit(2);
+                }
+            }
+        }
+
+        WorkloadGenerator generator = new WorkloadGenerator(seed);
+        FileService fileService = new FileService(directory);
+        long start = System.nanoTime();
+        fileService.saveInventory(generator.items(1, items), items + 1);
+        RecyclingManager manager = new RecyclingManager();
+        manager.finishLoading(fileService.loadInventory(Constants.LOAD_CHUNK_SIZE,
+            (chunk, loaded, count) -> manager.appendLoadedItems(chunk)));
+        InventoryJournal journal = new InventoryJournal(directory, fileService);
+        journal.open(manager);
+        System.out.printf("Generated and loaded %d items in %d ms; %d threads for %d s in %s%n", items,
+                          (System.nanoTime() - start) / 1_000_000, threads, seconds, directory.toAbsolutePath());
+
+        watchGc();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            WorkloadGenerator workload = generator.split();
+            workers.add(Thread.ofPlatform().name("soak-worker-" + i)
+                .start(() -> work(manager, workload, items, deadline)));
+        }
+
+        long runStart = System.nanoTime();
+        List<double[]> heapSamples = new ArrayList<>();
+        List<Double> throughput = new ArrayList<>();
+        System.out.printf("%8s %9s %8s %8s %9s %8s %6s %8s %9s %8s %10s %8s%n", "minutes", "ops/s", "p50 ms", "p99 ms",
+                          "p99.9 ms", "max ms", "GCs", "GC ms", "maxGC ms", "live MB", "inventory", "pending");
+        long nextReport = runStart;
+        long lastReport = runStart;
+        while (System.nanoTime() < deadline) {
+            nextReport += TimeUnit.SECONDS.toNanos(reportSeconds);
+            long sleep = Math.min(nextReport, deadline) - System.nanoTime();
+            if (sleep > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            }
+            Window finished = interval;
+            interval = new Window();
+            long now = System.nanoTime();
+            double elapsed = (now - runStart) / 1e9;
+            double intervalSeconds = (now - lastReport) / 1e9;
+            lastReport = now;
+            LatencyHistogram.Snapshot all = finished.latency[ALL].snapshot();
+            LatencyHistogram.Snapshot gc = finished.gcPauses.snapshot();
+            long heap = liveHeapBytes;
+            int size = manager.snapshot().size();
+            int pending = manager.getPendingItems().size();
+            throughput.add(all.getCount() / intervalSeconds);
+            if (heap >= 0) {
+                heapSamples.add(new double[] { elapsed / 3600, heap / 1048576.0, heap / (double) Math.max(1, size + pending) });
+            }
+            System.out.printf("%8.1f %9.0f %8.3f %8.3f %9.3f %8.1f %6d %8.0f %9.1f %8s %10d %8d%n", elapsed / 60,
+                              all.getCount() / intervalSeconds, millis(all.getPercentileNanos(50)),
+                              millis(all.getPercentileNanos(99)), millis(all.getPercentileNanos(99.9)),
+                              millis(all.getMaxNanos()), gc.getCount(), gc.getMeanNanos() * gc.getCount() / 1e6,
+                              millis(gc.getMaxNanos()), heap < 0 ? "-" : String.format("%.1f", heap / 1048576.0),
+                              size, pending);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double elapsed = (System.nanoTime() - runStart) / 1e9;
+
+        report(elapsed, throughput, heapSamples, items, manager);
+        journal.close();
+        if (dataDir == null) {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static void work(RecyclingManager manager, WorkloadGenerator workload, int targetSize, long deadline) {
+        while (System.nanoTime() < deadline) {
+            Op op = pick(workload);
+            int size = manager.snapshot().size() + manager.getPendingItems().size();
+            if (op == Op.ENQUEUE && size > targetSize * MAX_GROWTH) {
+                op = Op.DELETE;
+            } else if (op == Op.DELETE && size < targetSize * MAX_SHRINK) {
+                op = Op.ENQUEUE;
+            }
+            long start = System.nanoTime();
+            boolean hit;
+            try {
+                hit = execute(op, manager, workload);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                interval.errors.increment();
+                total.errors.increment();
+                if (errorPrinted.compareAndSet(false, true)) {
+                    System.err.println("First error, in " + op + " (later ones are only counted):");
+                    e.printStackTrace();
+                }
+                continue;
+            }
+            long nanos = System.nanoTime() - start;
+            Window window = interval;
+            record(window, op, nanos, hit);
+            record(total, op, nanos, hit);
+        }
+    }
+
+    // Returns false when the operation found nothing to do (unknown ID, empty queue or undo stack, full queue)
+    private static boolean execute(Op op, RecyclingManager manager, WorkloadGenerator workload)
+            throws InterruptedException {
+        switch (op) {
+            case ENQUEUE:
+                return manager.offerItemToQueue(workload.item(manager.generateNextId()), 1, TimeUnit.SECONDS);
+            case PROCESS:
+                return !manager.processQueue(Constants.QUEUE_BATCH_SIZE).isEmpty();
+            case SEARCH:
+                return !manager.searchItems(workload.searchTerm()).isEmpty();
+            case SORT:
+                manager.sortItems(SORT_ORDERS.get(workload.nextInt(SORT_ORDERS.size())));
+                return true;
+            case UPDATE: {
+                String id = RecyclingManager.formatId(workload.recentId(manager.getNextIdMark()));
+                EWasteItem item = workload.item(id);
+                return manager.updateItem(id, item.getName(), item.getCategory(), item.getWeight(), item.getCondition());
+            }
+            case DELETE:
+                return manager.removeItem(RecyclingManager.formatId(workload.recentId(manager.getNextIdMark())));
+            case UNDO:
+                return manager.undoDelete();
+            default:
+                // A full snapshot write through FileService; also truncates the journal
+                manager.compactJournal();
+                return true;
+        }
+    }
+
+    private static Op pick(WorkloadGenerator workload) {
+        int roll = workload.nextInt(1000);
+        for (Op op : OPS) {
+            roll -= op.weight;
+            if (roll < 0) {
+                return op;
+            }
+        }
+        return Op.SEARCH;
+    }
+
+    private static void record(Window window, Op op, long nanos, boolean hit) {
+        window.latency[op.ordinal()].record(nanos);
+        window.latency[ALL].record(nanos);
+        if (!hit) {
+            window.misses[op.ordinal()].increment();
+        }
+    }
+
+    // Pause times and the heap left after each collection, from the collectors' notifications.
+    // Beans named "... Cycles" (ZGC, Shenandoah) report concurrent work, not pauses, and are skipped.
+    private static void watchGc() {
+        Set<String> heapPools = new HashSet<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector.getName().endsWith("Cycles") || !(collector instanceof NotificationEmitter)) {
+                continue;
+            }
+            ((NotificationEmitter) collector).addNotificationListener((notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                long pause = TimeUnit.MILLISECONDS.toNanos(info.getGcInfo().getDuration());
+                interval.gcPauses.record(pause);
+                total.gcPauses.record(pause);
+                long used = 0;
+                for (Map.Entry<String, MemoryUsage> entry : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                    if (heapPools.contains(entry.getKey())) {
+                        used += entry.getValue().getUsed();
+                    }
+                }
+                liveHeapBytes = used;
+            }, null, null);
+        }
+    }
+
+    private static void report(double elapsedSeconds, List<Double> throughput, List<double[]> heapSamples,
+                               int items, RecyclingManager manager) {
+        System.out.println();
+        System.out.printf("%-9s %11s %9s %7s %8s %8s %9s %9s%n", "operation", "count", "ops/s", "miss %",
+                          "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Op op : OPS) {
+            LatencyHistogram.Snapshot latency = total.latency[op.ordinal()].snapshot();
+            double missPercent = latency.getCount() == 0 ? 0 : 100.0 * total.misses[op.ordinal()].sum() / latency.getCount();
+            row(op.name().toLowerCase(), latency, elapsedSeconds, missPercent);
+        }
+        row("all", total.latency[ALL].snapshot(), elapsedSeconds, Double.NaN);
+        System.out.println("errors: " + total.errors.sum());
+
+        LatencyHistogram.Snapshot gc = total.gcPauses.snapshot();
+        double pausedMillis = gc.getMeanNanos() * gc.getCount() / 1e6;
+        System.out.printf("GC pauses: %d, %.0f ms in total (%.2f%% of the run), p99 %.1f ms, max %.1f ms%n",
+                          gc.getCount(), pausedMillis, pausedMillis / 10 / elapsedSeconds,
+                          millis(gc.getPercentileNanos(99)), millis(gc.getMaxNanos()));
+
+        // The first interval includes JIT warm-up and the initial load's garbage, so trends start after it
+        if (heapSamples.size() >= 3) {
+            List<double[]> steady = heapSamples.subList(1, heapSamples.size());
+            double[] first = steady.get(0);
+            double[] last = steady.get(steady.size() - 1);
+            System.out.printf("Live heap after GC: %.1f MB -> %.1f MB, trend %+.1f MB/hour; per item %.0f -> %.0f bytes%n",
+                              first[1], last[1], slope(steady, 1), first[2], last[2]);
+        } else {
+            System.out.println("Live heap after GC: not enough intervals for a trend");
+        }
+        if (throughput.size() >= 3) {
+            double first = throughput.get(1);
+            double last = throughput.get(throughput.size() - 1);
+            System.out.printf("Throughput: %.0f ops/s -> %.0f ops/s (%+.1f%%)%n", first, last, 100 * (last - first) / first);
+        }
+        System.out.printf("Inventory: %d items at start, %d at end, %d pending%n", items, manager.snapshot().size(),
+                          manager.getPendingItems().size());
+    }
+
+    private static void row(String label, LatencyHistogram.Snapshot latency, double elapsedSeconds, double missPercent) {
+        System.out.printf("%-9s %11d %9.0f %7s %8.3f %8.3f %9.3f %9.3f%n", label, latency.getCount(),
+                          latency.getCount() / elapsedSeconds, Double.isNaN(missPercent) ? "" : String.format("%.1f", missPercent),
+                          millis(latency.getPercentileNanos(50)), millis(latency.getPercentileNanos(99)),
+                          millis(latency.getPercentileNanos(99.9)), millis(latency.getMaxNanos()));
+    }
+
+    // Least-squares slope of samples[column] per hour (samples[0])
+    private static double slope(List<double[]> samples, int column) {
+        double meanX = 0;
+        double meanY = 0;
+        for (double[] sample : samples) {
+            meanX += sample[0];
+            meanY += sample[column];
+        }
+        meanX /= samples.size();
+        meanY /= samples.size();
+        double covariance = 0;
+        double variance = 0;
+        for (double[] sample : samples) {
+            covariance += (sample[0] - meanX) * (sample[column] - meanY);
+            variance += (sample[0] - meanX) * (sample[0] - meanX);
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        String value = stringArg(args, name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String stringArg(String[] args, String name) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+}
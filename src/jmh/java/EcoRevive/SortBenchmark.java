@@ -0,0 +1,64 @@
+package EcoRevive;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Each invocation sorts a freshly built, unsorted list
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class SortBenchmark {
+    private static final Comparator<EWasteItem> BY_NAME = Comparator.comparing(EWasteItem::getName);
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private EWasteItem[] items;
+    private MyLinkedList<EWasteItem> list;
+    private RecyclingManager manager;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        items = BenchmarkData.array(size, 42);
+    }
+
+    @Setup(Level.Invocation)
+    public void rebuild() {
+        list = BenchmarkData.list(items);
+        manager = new RecyclingManager();
+        manager.setRecycledItems(BenchmarkData.list(items));
+    }
+
+    @Benchmark
+    public MyLinkedList<EWasteItem> mergeSort() {
+        list.sort(BY_NAME);
+        return list;
+    }
+
+    @Benchmark
+    public MyLinkedList<EWasteItem> parallelSort() {
+        list.parallelSort(BY_NAME);
+        return list;
+    }
+
+    @Benchmark
+    public RecyclingManager sortItems() {
+        manager.sortItems(BY_NAME);
+        return manager;
+    }
+}
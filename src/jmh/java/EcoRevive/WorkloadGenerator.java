@@ -0,0 +1,238 @@
+package EcoRevive;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+// Realistic synthetic inventories and request parameters. Unlike BenchmarkData (uniform, kept as
+// is so earlier benchmark results stay comparable) the distributions are skewed the way real
+// intake is: phones and small appliances dominate, most items arrive used or broken, a few
+// popular models account for most names, weights are log-normal per category and recent items
+// are touched far more often than old ones. Deterministic for a given seed; one instance per
+// thread. Writes a dataset of any size without holding it in memory:
+//   mvn -P benchmarks compile exec:java -Dexec.mainClass=EcoRevive.WorkloadGenerator \
+//       -Dexec.args="--items 5000000 --out data [--csv data/items.csv] [--seed 42]"
+final class WorkloadGenerator {
+    // Share of intake per category, in the order of Constants
+    private static final String[] CATEGORIES = {
+        Constants.CAT_MOBILE, Constants.CAT_LAPTOP, Constants.CAT_TABLET,
+        Constants.CAT_TV, Constants.CAT_APPLIANCE, Constants.CAT_OTHER
+    };
+    private static final Distribution CATEGORY = Distribution.weighted(35, 18, 10, 7, 20, 10);
+
+    private static final String[] CONDITIONS = {
+        Constants.COND_USED, Constants.COND_BROKEN, Constants.COND_REFURBISHED, Constants.COND_NEW
+    };
+    private static final Distribution CONDITION = Distribution.weighted(45, 35, 14, 6);
+
+    // Median weight in kg per category; log-normal spread around it
+    private static final double[] MEDIAN_WEIGHT = { 0.18, 2.2, 0.5, 14.0, 6.0, 1.2 };
+    private static final double WEIGHT_SIGMA = 0.45;
+
+    // Models per category, most popular first; picked with a Zipf distribution
+    private static final String[][] MODELS = {
+        { "Apple iPhone 11", "Samsung Galaxy S21", "Apple iPhone 8", "Samsung Galaxy A52", "Xiaomi Redmi Note 9",
+          "Google Pixel 4a", "Huawei P30", "Motorola Moto G7", "OnePlus 7T", "Nokia 3310", "Sony Xperia 5", "LG G6" },
+        { "Dell Latitude 5490", "Lenovo ThinkPad T480", "Apple MacBook Air", "HP EliteBook 840", "Dell XPS 13",
+          "Acer Aspire 5", "Asus ZenBook 14", "Lenovo IdeaPad 3", "Apple MacBook Pro", "Toshiba Satellite" },
+        { "Apple iPad Air", "Samsung Galaxy Tab A", "Amazon Fire HD 8", "Apple iPad Mini", "Lenovo Tab M10",
+          "Microsoft Surface Go", "Huawei MediaPad T5" },
+        { "Samsung Crystal UHD", "LG OLED C1", "Sony Bravia TV", "Philips Ambilight", "TCL 4-Series",
+          "Panasonic Viera", "Hisense A6" },
+        { "Philips Toaster", "Dyson Vacuum", "Bosch Microwave", "Nespresso Coffee Machine", "Braun Kettle",
+          "Tefal Iron", "Kenwood Blender", "Miele Hair Dryer" },
+        { "Logitech Keyboard", "Canon Printer", "Netgear Router", "JBL Speaker", "Seagate Hard Drive",
+          "Sony PlayStation 4", "Nintendo Switch", "Garmin GPS", "Anker Power Bank" }
+    };
+    private static final Distribution[] MODEL = new Distribution[MODELS.length];
+
+    // Search terms, most frequent first: brands and product words, then terms that match nothing
+    private static final String[] SEARCH_TERMS = {
+        "apple", "samsung", "iphone", "galaxy", "dell", "lenovo", "ipad", "thinkpad", "philips", "macbook",
+        "sony", "dyson", "hp", "pixel", "tv", "xiaomi", "laptop", "toaster", "vacuum", "bravia",
+        "nokia", "printer", "router", "kettle", "surface", "oled", "switch", "xyzzy", "fairphone", "blackberry"
+    };
+    private static final Distribution SEARCH_TERM = Distribution.zipf(SEARCH_TERMS.length, 1.0);
+
+    // Higher means accesses crowd more tightly around the newest IDs: with 4, half of them fall in the newest 6%
+    private static final double RECENCY_SKEW = 4;
+
+    static {
+        for (int i = 0; i < MODELS.length; i++) {
+            MODEL[i] = Distribution.zipf(MODELS[i].length, 1.1);
+        }
+    }
+
+    private final SplittableRandom random;
+
+    WorkloadGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    private WorkloadGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    // Independent generator for another thread; the sequence is still fixed by the original seed
+    WorkloadGenerator split() {
+        return new WorkloadGenerator(random.split());
+    }
+
+    EWasteItem item(int id) {
+        return item(RecyclingManager.formatId(id));
+    }
+
+    EWasteItem item(String id) {
+        int category = CATEGORY.sample(random);
+        String[] models = MODELS[category];
+        String name = models[MODEL[category].sample(random)];
+        // Roughly one in four intake forms carries a serial or batch number
+        if (random.nextInt(4) == 0) {
+            name = name + " #" + (1 + random.nextInt(9999));
+        }
+        return new EWasteItem(id, name, CATEGORIES[category], weight(category),
+                              CONDITIONS[CONDITION.sample(random)]);
+    }
+
+    // Log-normal around the category median, rounded to 100 g and kept within the import limits
+    private double weight(int category) {
+        double kg = MEDIAN_WEIGHT[category] * Math.exp(WEIGHT_SIGMA * random.nextGaussian());
+        return Math.min(Constants.MAX_WEIGHT_KG, Math.max(0.1, Math.round(kg * 10) / 10.0));
+    }
+
+    String searchTerm() {
+        return SEARCH_TERMS[SEARCH_TERM.sample(random)];
+    }
+
+    // An ID below nextId, most likely a recent one; it may have been deleted or still be pending
+    int recentId(int nextId) {
+        int range = Math.max(1, nextId - 1);
+        int offset = (int) (range * Math.pow(random.nextDouble(), RECENCY_SKEW));
+        return Math.max(1, nextId - 1 - offset);
+    }
+
+    // Uniform in [0, bound)
+    int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    // count items with IDs firstId, firstId + 1, ...; generated as the caller iterates.
+    // Iterating again repeats the same items.
+    Iterable<EWasteItem> items(int firstId, int count) {
+        long seed = random.nextLong();
+        return () -> new Iterator<EWasteItem>() {
+            private final WorkloadGenerator source = new WorkloadGenerator(seed);
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public EWasteItem next() {
+                if (next == count) {
+                    throw new NoSuchElementException();
+                }
+                return source.item(firstId + next++);
+            }
+        };
+    }
+
+    MyLinkedList<EWasteItem> list(int firstId, int count) {
+        MyLinkedList<EWasteItem> list = new MyLinkedList<>();
+        for (EWasteItem item : items(firstId, count)) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    // Discrete distribution sampled by binary search over its cumulative weights
+    static final class Distribution {
+        private final double[] cumulative;
+
+        private Distribution(double[] weights) {
+            cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < cumulative.length; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        static Distribution weighted(double... weights) {
+            return new Distribution(weights.clone());
+        }
+
+        // Rank k (0-based) has weight 1 / (k + 1)^exponent
+        static Distribution zipf(int n, double exponent) {
+            double[] weights = new double[n];
+            for (int k = 0; k < n; k++) {
+                weights[k] = 1 / Math.pow(k + 1, exponent);
+            }
+            return new Distribution(weights);
+        }
+
+        int sample(SplittableRandom random) {
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] <= u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = intArg(args, "--items", 1_000_000);
+        long seed = intArg(args, "--seed", 42);
+        String out = stringArg(args, "--out", null);
+        String csv = stringArg(args, "--csv", null);
+        if (out == null && csv == null) {
+            System.err.println("Usage: --items <n> [--seed <n>] --out <data dir> and/or --csv <file>");
+            System.exit(2);
+        }
+
+        Iterable<EWasteItem> items = new WorkloadGenerator(seed).items(1, count);
+        if (out != null) {
+            Path directory = Paths.get(out);
+            Files.createDirectories(directory);
+            long start = System.nanoTime();
+            new FileService(directory).saveInventory(items, count + 1);
+            System.out.printf("Wrote %d items to %s in %d ms%n", count, directory.toAbsolutePath(),
+                              (System.nanoTime() - start) / 1_000_000);
+        }
+        if (csv != null) {
+            Path target = Paths.get(csv);
+            long start = System.nanoTime();
+            long rows = CsvExporter.export(items, count, target, null, null);
+            System.out.printf("Wrote %d rows to %s in %d ms%n", rows, target, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        String value = stringArg(args, name, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
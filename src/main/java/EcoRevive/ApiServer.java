@@ -0,0 +1,361 @@
+package EcoRevive;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Embedded JSON API over RecyclingManager on the JDK's HTTP server, one virtual thread per request.
+// The manager is already safe for concurrent use: writers lock, readers use the published snapshot.
+//
+//   POST   /api/queue              enqueue {name, category, weight, condition} -> 201 item
+//   GET    /api/queue              pending count
+//   POST   /api/queue/process      move pending items into the inventory (?max=n)
+//   GET    /api/items              search (?q=text&limit=n), whole inventory without q
+//   GET    /api/items/{id}         one item
+//   PUT    /api/items/{id}         replace name, category, weight and condition
+//   DELETE /api/items/{id}         remove (can be undone from the GUI)
+//   GET    /api/stats              totals, eco-points and category/condition counts
+//   GET    /api/metrics            operation metrics as text (see Metrics)
+public class ApiServer implements AutoCloseable {
+    private static final long ENQUEUE_WAIT_MS = 1000;
+
+    static {
+        // The JDK server writes headers and body separately; with Nagle on, the client's delayed
+        // ACK adds ~40 ms to every small response. Must be set before the first HttpServer is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final RecyclingManager manager;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Client errors carry their HTTP status up to the dispatcher
+    private static class ApiException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private static final class Response {
+        final int status;
+        final Object body;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    // Sent as text/plain instead of JSON
+    private static final class TextBody {
+        final String text;
+
+        TextBody(String text) {
+            this.text = text;
+        }
+    }
+
+    private interface Handler {
+        Response handle(HttpExchange exchange, String id) throws Exception;
+    }
+
+    // Port 0 picks a free port (see getPort)
+    public ApiServer(RecyclingManager manager, InetSocketAddress address) throws IOException {
+        this.manager = manager;
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/api/queue", exchange -> dispatch(exchange, this::queue));
+        server.createContext("/api/items", exchange -> dispatch(exchange, this::items));
+        server.createContext("/api/stats", exchange -> dispatch(exchange, this::stats));
+        server.createContext("/api/metrics", exchange -> dispatch(exchange, ApiServer::metrics));
+    }
+
+    public void start() {
+        server.start();
+        System.out.println("REST API listening on port " + getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void dispatch(HttpExchange exchange, Handler handler) throws IOException {
+        Response response;
+        try {
+            String context = exchange.getHttpContext().getPath();
+            String rest = exchange.getRequestURI().getPath().substring(context.length());
+            String id = rest.startsWith("/") && rest.length() > 1 ? rest.substring(1) : null;
+            response = handler.handle(exchange, id);
+        } catch (ApiException e) {
+            response = new Response(e.status, Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("REST API error on " + exchange.getRequestURI() + ": " + e);
+            response = new Response(500, Map.of("error", String.valueOf(e.getMessage())));
+        }
+        try {
+            send(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        if (response.body == null) {
+            exchange.sendResponseHeaders(response.status, -1);
+            return;
+        }
+        byte[] bytes;
+        if (response.body instanceof TextBody) {
+            bytes = ((TextBody) response.body).text.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        } else {
+            bytes = Json.write(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        }
+        exchange.sendResponseHeaders(response.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Response queue(HttpExchange exchange, String path) throws Exception {
+        String method = exchange.getRequestMethod();
+        if (path == null && method.equals("POST")) {
+            ItemFields fields = readItem(exchange);
+            EWasteItem item = new EWasteItem(manager.generateNextId(), fields.name, fields.category,
+                                             fields.weight, fields.condition);
+            // Same backpressure as the bulk importer: wait briefly for the processor to make room
+            if (!manager.offerItemToQueue(item, ENQUEUE_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                throw new ApiException(503, "Pending queue is full, retry later");
+            }
+            return new Response(201, item);
+        }
+        if (path == null && method.equals("GET")) {
+            return new Response(200, Map.of("pending", manager.getPendingItems().size()));
+        }
+        if ("process".equals(path) && method.equals("POST")) {
+            int max = intParam(query(exchange), "max", Integer.MAX_VALUE);
+            // Batched by the queue processor, so the manager lock is never held for the whole backlog
+            int processed = manager.processQueueAsync(max).join();
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("processed", processed);
+            body.put("pending", manager.getPendingItems().size());
+            return new Response(200, body);
+        }
+        throw notAllowed(exchange);
+    }
+
+    private Response items(HttpExchange exchange, String id) throws Exception {
+        String method = exchange.getRequestMethod();
+        if (id == null) {
+            if (!method.equals("GET")) {
+                throw notAllowed(exchange);
+            }
+            Map<String, String> params = query(exchange);
+            String q = params.getOrDefault("q", "");
+            int limit = intParam(params, "limit", Constants.API_DEFAULT_SEARCH_LIMIT);
+            Iterable<EWasteItem> matches;
+            int total;
+            if (q.isEmpty()) {
+                InventorySnapshot snapshot = manager.snapshot();
+                matches = snapshot;
+                total = snapshot.size();
+            } else {
+                MyLinkedList<EWasteItem> found = manager.searchItems(q);
+                matches = found;
+                total = found.size();
+            }
+            List<EWasteItem> page = new ArrayList<>(Math.min(limit, total));
+            for (EWasteItem item : matches) {
+                if (page.size() == limit) {
+                    break;
+                }
+                page.add(item);
+            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("query", q);
+            body.put("total", total);
+            body.put("items", page);
+            return new Response(200, body);
+        }
+
+        switch (method) {
+            case "GET": {
+                EWasteItem item = manager.findById(id);
+                if (item == null) {
+                    throw notFound(id);
+                }
+                return new Response(200, item);
+            }
+            case "PUT": {
+                ItemFields fields = readItem(exchange);
+                if (!manager.updateItem(id, fields.name, fields.category, fields.weight, fields.condition)) {
+                    throw notFound(id);
+                }
+                return new Response(200, manager.findById(id));
+            }
+            case "DELETE":
+                if (!manager.removeItem(id)) {
+                    throw notFound(id);
+                }
+                return new Response(204, null);
+            default:
+                throw notAllowed(exchange);
+        }
+    }
+
+    private Response stats(HttpExchange exchange, String path) throws Exception {
+        if (path != null || !exchange.getRequestMethod().equals("GET")) {
+            throw notAllowed(exchange);
+        }
+        InventoryStats.Snapshot stats = manager.getStatsSnapshot();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("totalItems", stats.getTotalItems());
+        body.put("totalWeightKg", stats.getTotalWeight());
+        body.put("ecoPoints", stats.getEcoPoints());
+        body.put("mostCommonCategory", stats.getMostCommonCategory());
+        body.put("categories", stats.getCategoryCounts());
+        body.put("conditions", stats.getConditionCounts());
+        body.put("pending", manager.getPendingItems().size());
+        return new Response(200, body);
+    }
+
+    private static Response metrics(HttpExchange exchange, String path) throws Exception {
+        if (path != null || !exchange.getRequestMethod().equals("GET")) {
+            throw notAllowed(exchange);
+        }
+        return new Response(200, new TextBody(Metrics.dump()));
+    }
+
+    private static final class ItemFields {
+        String name;
+        String category;
+        double weight;
+        String condition;
+    }
+
+    // Request body as an item, validated with the same rules as the CSV import
+    private static ItemFields readItem(HttpExchange exchange) throws IOException, ApiException {
+        Object parsed;
+        try {
+            parsed = Json.parse(readBody(exchange));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, e.getMessage());
+        }
+        if (!(parsed instanceof Map)) {
+            throw new ApiException(400, "Expected a JSON object");
+        }
+        Map<?, ?> body = (Map<?, ?>) parsed;
+        ItemFields fields = new ItemFields();
+        fields.name = stringField(body, "name").trim();
+        String category = stringField(body, "category");
+        String condition = stringField(body, "condition");
+        fields.category = BulkImporter.canonicalCategory(category.trim());
+        fields.condition = BulkImporter.canonicalCondition(condition.trim());
+        if (fields.name.isEmpty()) {
+            throw new ApiException(400, "missing name");
+        } else if (fields.name.length() > Constants.MAX_NAME_LENGTH) {
+            throw new ApiException(400, "name longer than " + Constants.MAX_NAME_LENGTH + " characters");
+        } else if (fields.category == null) {
+            throw new ApiException(400, "unknown category '" + category + "'");
+        } else if (fields.condition == null) {
+            throw new ApiException(400, "unknown condition '" + condition + "'");
+        }
+        Object weight = body.get("weight");
+        if (!(weight instanceof Number)) {
+            throw new ApiException(400, "weight must be a number");
+        }
+        fields.weight = ((Number) weight).doubleValue();
+        if (!(fields.weight > 0 && fields.weight <= Constants.MAX_WEIGHT_KG)) {
+            throw new ApiException(400, "weight must be between 0 and " + Constants.MAX_WEIGHT_KG + " kg");
+        }
+        return fields;
+    }
+
+    private static String stringField(Map<?, ?> body, String name) throws ApiException {
+        Object value = body.get(name);
+        if (!(value instanceof String)) {
+            throw new ApiException(400, name + " must be a string");
+        }
+        return (String) value;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException, ApiException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(Constants.API_MAX_BODY_BYTES + 1);
+            if (bytes.length > Constants.API_MAX_BODY_BYTES) {
+                throw new ApiException(413, "Request body larger than " + Constants.API_MAX_BODY_BYTES + " bytes");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) throws ApiException {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            try {
+                params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(400, "Malformed query string: " + e.getMessage());
+            }
+        }
+        return params;
+    }
+
+    private static int intParam(Map<String, String> params, String name, int defaultValue) throws ApiException {
+        String value = params.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 0) {
+                throw new ApiException(400, name + " must not be negative");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, name + " expects a number, got " + value);
+        }
+    }
+
+    private static ApiException notFound(String id) {
+        return new ApiException(404, "No item with ID " + id);
+    }
+
+    private static ApiException notAllowed(HttpExchange exchange) {
+        return new ApiException(405, exchange.getRequestMethod() + " not supported on " + exchange.getRequestURI().getPath());
+    }
+}
@@ -0,0 +1,377 @@
+package EcoRevive;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Streams an external CSV file into the pending queue in three stages:
+//   read     - one thread splits the file into records and groups them into batches
+//   validate - batches are checked in parallel against the known categories and conditions
+//   enqueue  - one thread takes batches back in file order, assigns each one a block of IDs
+//              and enqueues its items; rejected rows go to "<name>.rejected.csv"
+// Only a few batches per worker are in flight, so memory stays flat for any file size.
+public class BulkImporter {
+    private static final int IN_FLIGHT_BATCHES_PER_WORKER = 4;
+    // How long to wait for room while the queue processor is draining before enqueueing anyway
+    private static final long BACKPRESSURE_WAIT_MS = 1000;
+
+    public static final class Report {
+        private final long rowsRead;
+        private final long imported;
+        private final long rejected;
+        private final long elapsedNanos;
+        private final Path rejectedFile;
+
+        Report(long rowsRead, long imported, long rejected, long elapsedNanos, Path rejectedFile) {
+            this.rowsRead = rowsRead;
+            this.imported = imported;
+            this.rejected = rejected;
+            this.elapsedNanos = elapsedNanos;
+            this.rejectedFile = rejectedFile;
+        }
+
+        public long getRowsRead() { return rowsRead; }
+        public long getImported() { return imported; }
+        public long getRejected() { return rejected; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        // null when every row was accepted
+        public Path getRejectedFile() { return rejectedFile; }
+
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rowsRead * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Imported %d of %d rows (%d rejected) in %.2f s, %.0f rows/s",
+                                 imported, rowsRead, rejected, elapsedNanos / 1e9, getRowsPerSecond());
+        }
+    }
+
+    // Which column holds which field; from the header row, or positional when there is none
+    private static final class Columns {
+        final int name;
+        final int category;
+        final int weight;
+        final int condition;
+
+        Columns(int name, int category, int weight, int condition) {
+            this.name = name;
+            this.category = category;
+            this.weight = weight;
+            this.condition = condition;
+        }
+
+        int required() {
+            return Math.max(Math.max(name, category), Math.max(weight, condition)) + 1;
+        }
+
+        // Headerless files: Name,Category,Weight,Condition or the export layout with a leading ID
+        static Columns positional(int fieldCount) {
+            return fieldCount == 5 ? new Columns(1, 2, 3, 4) : new Columns(0, 1, 2, 3);
+        }
+
+        static Columns fromHeader(String[] header) {
+            int name = -1, category = -1, weight = -1, condition = -1;
+            for (int i = 0; i < header.length; i++) {
+                String column = header[i].trim().toLowerCase();
+                if (column.equals("name")) name = i;
+                else if (column.equals("category")) category = i;
+                else if (column.startsWith("weight")) weight = i;
+                else if (column.equals("condition")) condition = i;
+            }
+            if (name < 0 || category < 0 || weight < 0 || condition < 0) {
+                return null;
+            }
+            return new Columns(name, category, weight, condition);
+        }
+    }
+
+    private static final class Batch {
+        final String[][] rows;
+        final long[] lines;
+        int size;
+        // Filled in by validation; reasons[i] == null means row i is valid
+        String[] reasons;
+        String[] names;
+        String[] categories;
+        double[] weights;
+        String[] conditions;
+        int validCount;
+
+        Batch(int capacity) {
+            rows = new String[capacity][];
+            lines = new long[capacity];
+        }
+    }
+
+    private static final Batch END = new Batch(0);
+
+    private final RecyclingManager manager;
+    private final int parallelism;
+    private int batchSize = Constants.IMPORT_BATCH_SIZE;
+
+    public BulkImporter(RecyclingManager manager) {
+        this(manager, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BulkImporter(RecyclingManager manager, int parallelism) {
+        this.manager = manager;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    // Import on a virtual thread
+    public CompletableFuture<Report> importAsync(Path file) {
+        CompletableFuture<Report> result = new CompletableFuture<>();
+        Thread.ofVirtual().name("bulk-import").start(() -> {
+            try {
+                result.complete(importFile(file));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    public Report importFile(Path file) throws IOException {
+        long start = System.nanoTime();
+        JfrEvents.FileIo event = new JfrEvents.FileIo();
+        event.begin();
+        Path rejectedFile = rejectedFileFor(file);
+        Files.deleteIfExists(rejectedFile);
+
+        ExecutorService validators = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "import-validate");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorService enqueuer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "import-enqueue");
+            thread.setDaemon(true);
+            return thread;
+        });
+        BlockingQueue<Future<Batch>> inFlight = new ArrayBlockingQueue<>(parallelism * IN_FLIGHT_BATCHES_PER_WORKER);
+        Future<long[]> enqueued = enqueuer.submit(() -> enqueueAll(inFlight, rejectedFile));
+
+        long rowsRead = 0;
+        try (CsvCodec.RecordReader reader = new CsvCodec.RecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            Columns header = null;
+            String[] row = reader.next();
+            if (row != null && (header = Columns.fromHeader(row)) != null) {
+                row = reader.next();
+            }
+            final Columns columns = header;
+            Batch batch = new Batch(batchSize);
+            for (; row != null; row = reader.next()) {
+                if (row.length == 1 && row[0].isEmpty()) {
+                    continue; // blank line
+                }
+                batch.rows[batch.size] = row;
+                batch.lines[batch.size] = reader.getLine();
+                batch.size++;
+                rowsRead++;
+                if (batch.size == batchSize) {
+                    Batch full = batch;
+                    submit(inFlight, validators.submit(() -> validate(full, columns)), enqueued);
+                    batch = new Batch(batchSize);
+                }
+            }
+            if (batch.size > 0) {
+                Batch last = batch;
+                submit(inFlight, validators.submit(() -> validate(last, columns)), enqueued);
+            }
+        } finally {
+            submit(inFlight, CompletableFuture.completedFuture(END), enqueued);
+            validators.shutdown();
+            enqueuer.shutdown();
+        }
+
+        long[] counts = await(enqueued);
+        long elapsed = System.nanoTime() - start;
+        event.complete("import", file, counts[0], Files.size(file));
+        return new Report(rowsRead, counts[0], counts[1], elapsed, counts[1] > 0 ? rejectedFile : null);
+    }
+
+    // "intake.csv" -> "intake.rejected.csv", next to the input
+    static Path rejectedFileFor(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return file.resolveSibling(base + ".rejected.csv");
+    }
+
+    // Hand a batch to the enqueue stage, giving up if that stage has already failed
+    private static void submit(BlockingQueue<Future<Batch>> inFlight, Future<Batch> batch, Future<long[]> enqueued)
+            throws IOException {
+        try {
+            while (!inFlight.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                if (enqueued.isDone()) {
+                    await(enqueued);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        }
+    }
+
+    private static long[] await(Future<long[]> enqueued) throws IOException {
+        try {
+            return enqueued.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Import failed: " + cause, cause);
+        }
+    }
+
+    private static Batch validate(Batch batch, Columns header) {
+        int n = batch.size;
+        batch.reasons = new String[n];
+        batch.names = new String[n];
+        batch.categories = new String[n];
+        batch.weights = new double[n];
+        batch.conditions = new String[n];
+        for (int i = 0; i < n; i++) {
+            String[] row = batch.rows[i];
+            Columns columns = header != null ? header : Columns.positional(row.length);
+            if (row.length < columns.required() || (header == null && row.length != 4 && row.length != 5)) {
+                batch.reasons[i] = "expected " + (header != null ? columns.required() + "+" : "4 or 5") + " fields, got " + row.length;
+                continue;
+            }
+            String name = row[columns.name].trim();
+            String category = canonicalCategory(row[columns.category].trim());
+            String condition = canonicalCondition(row[columns.condition].trim());
+            if (name.isEmpty()) {
+                batch.reasons[i] = "missing name";
+            } else if (name.length() > Constants.MAX_NAME_LENGTH) {
+                batch.reasons[i] = "name longer than " + Constants.MAX_NAME_LENGTH + " characters";
+            } else if (category == null) {
+                batch.reasons[i] = "unknown category '" + row[columns.category] + "'";
+            } else if (condition == null) {
+                batch.reasons[i] = "unknown condition '" + row[columns.condition] + "'";
+            } else {
+                double weight;
+                try {
+                    weight = Double.parseDouble(row[columns.weight].trim());
+                } catch (NumberFormatException e) {
+                    batch.reasons[i] = "invalid weight '" + row[columns.weight] + "'";
+                    continue;
+                }
+                if (!(weight > 0 && weight <= Constants.MAX_WEIGHT_KG)) {
+                    batch.reasons[i] = "weight must be between 0 and " + Constants.MAX_WEIGHT_KG + " kg";
+                    continue;
+                }
+                batch.names[i] = name;
+                batch.categories[i] = category;
+                batch.weights[i] = weight;
+                batch.conditions[i] = condition;
+                batch.validCount++;
+            }
+        }
+        return batch;
+    }
+
+    private static final String[] CATEGORIES = {
+        Constants.CAT_MOBILE, Constants.CAT_LAPTOP, Constants.CAT_TABLET,
+        Constants.CAT_TV, Constants.CAT_APPLIANCE, Constants.CAT_OTHER
+    };
+    private static final String[] CONDITIONS = {
+        Constants.COND_NEW, Constants.COND_USED, Constants.COND_BROKEN, Constants.COND_REFURBISHED
+    };
+
+    // Case-insensitive match against the known categories/conditions, returning the constant's
+    // spelling or null. Shared with the REST API so both intake paths accept the same values.
+    static String canonicalCategory(String value) {
+        return canonical(value, CATEGORIES);
+    }
+
+    static String canonicalCondition(String value) {
+        return canonical(value, CONDITIONS);
+    }
+
+    private static String canonical(String value, String[] known) {
+        for (String candidate : known) {
+            if (candidate.equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // Runs on the enqueue thread; returns {imported, rejected}
+    private long[] enqueueAll(BlockingQueue<Future<Batch>> inFlight, Path rejectedFile) throws Exception {
+        long imported = 0;
+        long rejected = 0;
+        BufferedWriter rejects = null;
+        try {
+            while (true) {
+                Batch batch = inFlight.take().get();
+                if (batch == END) {
+                    break;
+                }
+                int id = batch.validCount > 0 ? manager.allocateIdBlock(batch.validCount) : 0;
+                for (int i = 0; i < batch.size; i++) {
+                    if (batch.reasons[i] == null) {
+                        enqueue(new EWasteItem(RecyclingManager.formatId(id++), batch.names[i], batch.categories[i],
+                                               batch.weights[i], batch.conditions[i]));
+                        imported++;
+                    } else {
+                        if (rejects == null) {
+                            rejects = Files.newBufferedWriter(rejectedFile, StandardCharsets.UTF_8);
+                            rejects.write("Line,Reason,Row" + CsvCodec.LINE_END);
+                        }
+                        writeReject(rejects, batch.lines[i], batch.reasons[i], batch.rows[i]);
+                        rejected++;
+                    }
+                }
+            }
+        } finally {
+            if (rejects != null) {
+                rejects.close();
+            }
+        }
+        return new long[] { imported, rejected };
+    }
+
+    // Don't outrun an active drain of the queue; otherwise enqueue straight away
+    private void enqueue(EWasteItem item) throws InterruptedException {
+        if (!manager.getQueueProcessor().isRunning()
+                || !manager.offerItemToQueue(item, BACKPRESSURE_WAIT_MS, TimeUnit.MILLISECONDS)) {
+            manager.addItemToQueue(item);
+        }
+    }
+
+    private static void writeReject(BufferedWriter out, long line, String reason, String[] row) throws IOException {
+        StringBuilder record = new StringBuilder();
+        record.append(line).append(',');
+        CsvCodec.appendField(record, reason);
+        for (String field : row) {
+            record.append(',');
+            CsvCodec.appendField(record, field);
+        }
+        record.append(CsvCodec.LINE_END);
+        out.write(record.toString());
+    }
+}
@@ -0,0 +1,186 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Loads the legacy comma-separated inventory file in parallel.
+// The file is cut into byte ranges that end on a line break, each range is parsed
+// on a worker without regex or String.split, and the per-range lists are spliced
+// back together in file order.
+public class ChunkedTextLoader {
+    private static final int FIELD_COUNT = 5;
+    private static final long MIN_CHUNK_BYTES = 1 << 20;
+
+    private final int parallelism;
+
+    public ChunkedTextLoader() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ChunkedTextLoader(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    // Malformed lines are reported to errors as "line N: reason" instead of being skipped silently
+    public MyLinkedList<EWasteItem> load(Path file, MyLinkedList<String> errors) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> ranges = split(channel);
+            List<Chunk> chunks = new ArrayList<>();
+
+            if (ranges.size() == 1) {
+                chunks.add(parse(channel, ranges.get(0)));
+            } else {
+                ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, ranges.size()));
+                try {
+                    List<Future<Chunk>> futures = new ArrayList<>();
+                    for (long[] range : ranges) {
+                        futures.add(pool.submit(() -> parse(channel, range)));
+                    }
+                    for (Future<Chunk> future : futures) {
+                        chunks.add(future.get());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while loading " + file, e);
+                } catch (ExecutionException e) {
+                    throw new IOException("Error parsing " + file, e.getCause());
+                } finally {
+                    pool.shutdownNow();
+                }
+            }
+
+            MyLinkedList<EWasteItem> items = new MyLinkedList<>();
+            long firstLine = 1;
+            for (Chunk chunk : chunks) {
+                items.appendAll(chunk.items);
+                for (int i = 0; i < chunk.errorLines.size(); i++) {
+                    errors.add("line " + (firstLine + chunk.errorLines.get(i)) + ": " + chunk.errorReasons.get(i));
+                }
+                firstLine += chunk.lineCount;
+            }
+            return items;
+        }
+    }
+
+    private static class Chunk {
+        final MyLinkedList<EWasteItem> items = new MyLinkedList<>();
+        final List<Long> errorLines = new ArrayList<>();
+        final List<String> errorReasons = new ArrayList<>();
+        long lineCount;
+    }
+
+    // Byte ranges of roughly equal size, each extended to the end of its last line
+    private List<long[]> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long target = Math.max(MIN_CHUNK_BYTES, size / (parallelism * 4L) + 1);
+        List<long[]> ranges = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(size, start + target);
+            if (end < size) {
+                end = nextLineStart(channel, end, size);
+            }
+            ranges.add(new long[] {start, end});
+            start = end;
+        }
+        if (ranges.isEmpty()) {
+            ranges.add(new long[] {0, 0});
+        }
+        return ranges;
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        long probe = from;
+        while (probe < size) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, probe, Math.min(64 * 1024, size - probe));
+            while (buf.hasRemaining()) {
+                if (buf.get() == '\n') {
+                    return probe + buf.position();
+                }
+            }
+            probe += buf.limit();
+        }
+        return size;
+    }
+
+    private static Chunk parse(FileChannel channel, long[] range) throws IOException {
+        Chunk chunk = new Chunk();
+        long length = range[1] - range[0];
+        if (length == 0) return chunk;
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Single line longer than 2 GB at offset " + range[0]);
+        }
+        MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, range[0], length);
+        byte[] line = new byte[256];
+        int[] commas = new int[FIELD_COUNT - 1];
+
+        int limit = buf.limit();
+        int pos = 0;
+        while (pos < limit) {
+            int end = pos;
+            while (end < limit && buf.get(end) != '\n') {
+                end++;
+            }
+            int lineEnd = (end > pos && buf.get(end - 1) == '\r') ? end - 1 : end;
+            int lineLength = lineEnd - pos;
+            if (lineLength > line.length) {
+                line = new byte[Math.max(lineLength, line.length * 2)];
+            }
+            buf.get(pos, line, 0, lineLength);
+            parseLine(line, lineLength, commas, chunk);
+            chunk.lineCount++;
+            pos = end + 1;
+        }
+        return chunk;
+    }
+
+    private static void parseLine(byte[] line, int length, int[] commas, Chunk chunk) {
+        if (length == 0) return; // blank lines carry no record
+
+        int found = 0;
+        for (int i = 0; i < length; i++) {
+            if (line[i] == ',') {
+                if (found == commas.length) {
+                    reject(chunk, "expected " + FIELD_COUNT + " fields but found more");
+                    return;
+                }
+                commas[found++] = i;
+            }
+        }
+        if (found != commas.length) {
+            reject(chunk, "expected " + FIELD_COUNT + " fields but found " + (found + 1));
+            return;
+        }
+
+        String weightText = field(line, commas[2] + 1, commas[3]);
+        double weight;
+        try {
+            weight = Double.parseDouble(weightText);
+        } catch (NumberFormatException e) {
+            reject(chunk, "invalid weight '" + weightText + "'");
+            return;
+        }
+        chunk.items.add(new EWasteItem(field(line, 0, commas[0]), field(line, commas[0] + 1, commas[1]),
+                                       field(line, commas[1] + 1, commas[2]), weight,
+                                       field(line, commas[3] + 1, length)));
+    }
+
+    private static void reject(Chunk chunk, String reason) {
+        chunk.errorLines.add(chunk.lineCount);
+        chunk.errorReasons.add(reason);
+    }
+
+    private static String field(byte[] line, int from, int to) {
+        return new String(line, from, to - from, StandardCharsets.UTF_8);
+    }
+}
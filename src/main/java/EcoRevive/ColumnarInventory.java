@@ -0,0 +1,272 @@
+package EcoRevive;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// Struct-of-arrays inventory backend. Weights sit in a double[], category and
+// condition are byte codes against a small dictionary, and IDs and names are packed
+// into one shared char pool. That is roughly 22 bytes per row plus the text, versus
+// an EWasteItem plus a Node per row. EWasteItem objects are only created when a
+// row is read; stats, filters and eco-points run directly over the columns.
+// RecyclingManager does not use it yet: ColumnarInventoryBenchmark compares the two on those scans.
+public class ColumnarInventory implements Iterable<EWasteItem> {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Up to 256 distinct values, addressed by an unsigned byte code
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final String[] values = new String[256];
+        private int count;
+
+        int code(String value) {
+            Integer code = codes.get(value);
+            if (code != null) return code;
+            if (count == values.length) {
+                throw new IllegalStateException("More than 256 distinct values: " + value);
+            }
+            values[count] = value;
+            codes.put(value, count);
+            return count++;
+        }
+
+        String value(byte code) {
+            return values[code & 0xFF];
+        }
+    }
+
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary conditions = new Dictionary();
+    private double[] weights = new double[INITIAL_CAPACITY];
+    private byte[] categoryCodes = new byte[INITIAL_CAPACITY];
+    private byte[] conditionCodes = new byte[INITIAL_CAPACITY];
+    // Row i's ID starts at textStart[i]; its name follows the ID directly
+    private int[] textStart = new int[INITIAL_CAPACITY];
+    private int[] idLength = new int[INITIAL_CAPACITY];
+    private int[] nameLength = new int[INITIAL_CAPACITY];
+    private char[] textPool = new char[INITIAL_CAPACITY * 16];
+    private int poolSize;
+    private int poolGarbage; // chars no longer referenced by any row
+    private int size;
+
+    public static ColumnarInventory from(Iterable<EWasteItem> items) {
+        ColumnarInventory inventory = new ColumnarInventory();
+        for (EWasteItem item : items) {
+            inventory.add(item);
+        }
+        return inventory;
+    }
+
+    public void add(EWasteItem item) {
+        ensureCapacity(size + 1);
+        write(size, item);
+        size++;
+    }
+
+    public void set(int index, EWasteItem item) {
+        checkIndex(index);
+        poolGarbage += idLength[index] + nameLength[index];
+        write(index, item);
+        compactPoolIfSparse();
+    }
+
+    public void removeAt(int index) {
+        checkIndex(index);
+        poolGarbage += idLength[index] + nameLength[index];
+        int tail = size - index - 1;
+        System.arraycopy(weights, index + 1, weights, index, tail);
+        System.arraycopy(categoryCodes, index + 1, categoryCodes, index, tail);
+        System.arraycopy(conditionCodes, index + 1, conditionCodes, index, tail);
+        System.arraycopy(textStart, index + 1, textStart, index, tail);
+        System.arraycopy(idLength, index + 1, idLength, index, tail);
+        System.arraycopy(nameLength, index + 1, nameLength, index, tail);
+        size--;
+        compactPoolIfSparse();
+    }
+
+    // A fresh EWasteItem view of row index
+    public EWasteItem get(int index) {
+        checkIndex(index);
+        int start = textStart[index];
+        return new EWasteItem(new String(textPool, start, idLength[index]),
+                              new String(textPool, start + idLength[index], nameLength[index]),
+                              categories.value(categoryCodes[index]), weights[index],
+                              conditions.value(conditionCodes[index]));
+    }
+
+    public double getWeight(int index) {
+        checkIndex(index);
+        return weights[index];
+    }
+
+    public String getCategory(int index) {
+        checkIndex(index);
+        return categories.value(categoryCodes[index]);
+    }
+
+    public String getCondition(int index) {
+        checkIndex(index);
+        return conditions.value(conditionCodes[index]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public MyLinkedList<EWasteItem> toList() {
+        MyLinkedList<EWasteItem> items = new MyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(get(i));
+        }
+        return items;
+    }
+
+    // --- Column scans ---
+
+    public double totalWeight() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += weights[i];
+        }
+        return total;
+    }
+
+    public Map<String, Integer> countByCategory() {
+        return count(categoryCodes, categories);
+    }
+
+    public Map<String, Integer> countByCondition() {
+        return count(conditionCodes, conditions);
+    }
+
+    public int ecoPoints() {
+        // Score each dictionary entry once, then the row loop is pure array arithmetic
+        EcoPointsTable rules = EcoPointsTable.get();
+        double[] base = new double[256];
+        for (int c = 0; c < categories.count; c++) {
+            base[c] = rules.basePoints(categories.values[c]);
+        }
+        double[] multiplier = new double[256];
+        for (int c = 0; c < conditions.count; c++) {
+            multiplier[c] = rules.multiplier(conditions.values[c]);
+        }
+        return rules.sum(weights, categoryCodes, base, conditionCodes, multiplier, size);
+    }
+
+    // Rows of one category, compared by code rather than by string
+    public MyLinkedList<EWasteItem> filterByCategory(String category) {
+        MyLinkedList<EWasteItem> result = new MyLinkedList<>();
+        Integer code = categories.codes.get(category);
+        if (code == null) return result;
+        byte wanted = code.byteValue();
+        for (int i = 0; i < size; i++) {
+            if (categoryCodes[i] == wanted) {
+                result.add(get(i));
+            }
+        }
+        return result;
+    }
+
+    public MyLinkedList<EWasteItem> filterByCondition(String condition) {
+        MyLinkedList<EWasteItem> result = new MyLinkedList<>();
+        Integer code = conditions.codes.get(condition);
+        if (code == null) return result;
+        byte wanted = code.byteValue();
+        for (int i = 0; i < size; i++) {
+            if (conditionCodes[i] == wanted) {
+                result.add(get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<EWasteItem> iterator() {
+        return new Iterator<EWasteItem>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public EWasteItem next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return get(next++);
+            }
+        };
+    }
+
+    private Map<String, Integer> count(byte[] codes, Dictionary dictionary) {
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) {
+            counts[codes[i] & 0xFF]++;
+        }
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int c = 0; c < dictionary.count; c++) {
+            if (counts[c] > 0) {
+                result.put(dictionary.values[c], counts[c]);
+            }
+        }
+        return result;
+    }
+
+    private void write(int index, EWasteItem item) {
+        String id = item.getId();
+        String name = item.getName();
+        int needed = id.length() + name.length();
+        if (poolSize + needed > textPool.length) {
+            char[] grown = new char[Math.max(textPool.length * 2, poolSize + needed)];
+            System.arraycopy(textPool, 0, grown, 0, poolSize);
+            textPool = grown;
+        }
+        textStart[index] = poolSize;
+        id.getChars(0, id.length(), textPool, poolSize);
+        name.getChars(0, name.length(), textPool, poolSize + id.length());
+        poolSize += needed;
+        idLength[index] = id.length();
+        nameLength[index] = name.length();
+
+        weights[index] = item.getWeight();
+        categoryCodes[index] = (byte) categories.code(item.getCategory());
+        conditionCodes[index] = (byte) conditions.code(item.getCondition());
+    }
+
+    // Rewrites the pool without dead text once more than half of it is garbage
+    private void compactPoolIfSparse() {
+        if (poolGarbage * 2 <= poolSize) return;
+        char[] compacted = new char[Math.max(INITIAL_CAPACITY, (poolSize - poolGarbage) * 2)];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int length = idLength[i] + nameLength[i];
+            System.arraycopy(textPool, textStart[i], compacted, position, length);
+            textStart[i] = position;
+            position += length;
+        }
+        textPool = compacted;
+        poolSize = position;
+        poolGarbage = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= weights.length) return;
+        int grown = Math.max(capacity, weights.length * 2);
+        weights = java.util.Arrays.copyOf(weights, grown);
+        categoryCodes = java.util.Arrays.copyOf(categoryCodes, grown);
+        conditionCodes = java.util.Arrays.copyOf(conditionCodes, grown);
+        textStart = java.util.Arrays.copyOf(textStart, grown);
+        idLength = java.util.Arrays.copyOf(idLength, grown);
+        nameLength = java.util.Arrays.copyOf(nameLength, grown);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+    }
+}
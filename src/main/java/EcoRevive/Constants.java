@@ -6,6 +6,9 @@ public class Constants {
     public static final int WINDOW_HEIGHT = 800;
     public static final String APP_TITLE = "EcoRevive: Smart E-Waste Recycling (JavaFX)";
     
+    // Startup: items appended to the inventory (and shown) per chunk while the data file loads
+    public static final int LOAD_CHUNK_SIZE = 10_000;
+
     // CSS Classes
     public static final String STYLE_ROOT = "root";
     public static final String STYLE_NAV_BAR = "nav-bar";
@@ -29,7 +32,7 @@ public class Constants {
     public static final String COND_BROKEN = "Broken";
     public static final String COND_REFURBISHED = "Refurbished";
 
-    // Eco Points Scoring
+    // Eco Points Scoring: built-in rules, used when eco-points.properties is missing or invalid
     public static final int POINTS_HIGH_VALUE = 50;
     public static final int POINTS_MEDIUM_VALUE = 20;
     public static final int POINTS_STANDARD = 10;
@@ -40,6 +43,35 @@ public class Constants {
     public static final double MULTIPLIER_USED = 1.0;
     public static final double MULTIPLIER_BROKEN = 0.5;
 
+    // Eco-points rules file (classpath resource by default, or -Decorevive.ecopoints.file=<path>)
+    public static final String ECO_POINTS_FILE_PROPERTY = "ecorevive.ecopoints.file";
+    public static final String ECO_POINTS_RESOURCE = "/eco-points.properties";
+
+    // Performance Tuning
+    public static final int PARALLEL_SORT_THRESHOLD = 50_000;
+    public static final long JOURNAL_FLUSH_INTERVAL_MS = 50;
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 10_000;
+    public static final int QUEUE_BATCH_SIZE = 500;
+    public static final int QUEUE_HIGH_WATER_MARK = 10_000;
+    public static final int DASHBOARD_MAX_REFRESHES_PER_SECOND = 4;
+    public static final int UNDO_MAX_ENTRIES = 1_000;
+    public static final long UNDO_MAX_BYTES = 4L * 1024 * 1024;
+    public static final int IMPORT_BATCH_SIZE = 1_000;
+
+    // Bulk Import Validation
+    public static final int MAX_NAME_LENGTH = 200;
+    public static final double MAX_WEIGHT_KG = 1_000;
+
+    // REST API (HeadlessCli "serve", or -Decorevive.api.port=<port> with the GUI)
+    public static final String API_PORT_PROPERTY = "ecorevive.api.port";
+    public static final int API_DEFAULT_PORT = 8080;
+    public static final int API_MAX_BODY_BYTES = 64 * 1024;
+    public static final int API_DEFAULT_SEARCH_LIMIT = 100;
+
+    // Metrics dump to the console every N seconds in the GUI and "serve" (-Decorevive.metrics.interval=0 turns it off)
+    public static final String METRICS_INTERVAL_PROPERTY = "ecorevive.metrics.interval";
+    public static final long METRICS_DEFAULT_INTERVAL_SECONDS = 60;
+
     private Constants() {
         // Prevent instantiation
     }
@@ -0,0 +1,156 @@
+package EcoRevive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 fields: a value containing a comma, quote, CR or LF is wrapped in quotes and its
+// quotes are doubled. Records end with CRLF (a bare LF is accepted when reading).
+public final class CsvCodec {
+    public static final String HEADER = "ID,Name,Category,Weight,Condition";
+    public static final String LINE_END = "\r\n";
+
+    private CsvCodec() {
+    }
+
+    public static void appendRecord(StringBuilder out, EWasteItem item) {
+        appendField(out, item.getId());
+        out.append(',');
+        appendField(out, item.getName());
+        out.append(',');
+        appendField(out, item.getCategory());
+        out.append(',');
+        out.append(item.getWeight());
+        out.append(',');
+        appendField(out, item.getCondition());
+        out.append(LINE_END);
+    }
+
+    public static void appendField(StringBuilder out, String value) {
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Streams records out of a Reader; quoted fields may span lines
+    public static final class RecordReader implements Closeable {
+        private final Reader in;
+        private final char[] buf = new char[64 * 1024];
+        private int pos;
+        private int limit;
+        private long line = 1;
+        private long recordLine;
+        private final List<String> fields = new ArrayList<>();
+        private final StringBuilder field = new StringBuilder();
+
+        public RecordReader(Reader in) {
+            this.in = in;
+        }
+
+        // Next record's fields, or null at end of input
+        public String[] next() throws IOException {
+            int c = read();
+            if (c < 0) {
+                return null;
+            }
+            recordLine = line;
+            fields.clear();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean fieldStart = true;
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        if (peek() == '"') {
+                            read();
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && fieldStart) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    fieldStart = true;
+                    c = read();
+                    continue;
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    line++;
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                fieldStart = false;
+                c = read();
+            }
+            fields.add(field.toString());
+            return fields.toArray(new String[0]);
+        }
+
+        // Line on which the record last returned by next() started
+        public long getLine() {
+            return recordLine;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private int read() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buf[pos++];
+        }
+
+        private int peek() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buf[pos];
+        }
+
+        private boolean fill() throws IOException {
+            int n = in.read(buf, 0, buf.length);
+            if (n <= 0) {
+                return false;
+            }
+            pos = 0;
+            limit = n;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// Streams items to CSV: each row is encoded straight into a direct buffer that is written to a
+// temp file (gzip-compressed when the target ends in ".gz") and moved into place once complete.
+// Memory use does not grow with the number of rows.
+public class CsvExporter {
+    public interface ProgressListener {
+        // Called on the export thread; totalRows is -1 when unknown
+        void onProgress(long rowsWritten, long totalRows);
+    }
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    // How often cancellation is checked and progress reported
+    private static final int PROGRESS_INTERVAL_ROWS = 16 * 1024;
+
+    private CsvExporter() {
+    }
+
+    // Export on a virtual thread; cancelling the returned future stops the export and removes the partial file
+    public static CompletableFuture<Long> exportAsync(Iterable<EWasteItem> items, long totalRows, Path target,
+                                                      ProgressListener listener) {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        Thread.ofVirtual().name("csv-export").start(() -> {
+            try {
+                result.complete(export(items, totalRows, target, listener, result));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    // Export on the calling thread and return the number of rows; listener and cancel may be null
+    public static long export(Iterable<EWasteItem> items, long totalRows, Path target,
+                              ProgressListener listener, Future<?> cancel) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        boolean gzip = target.getFileName().toString().endsWith(".gz");
+        boolean complete = false;
+        JfrEvents.FileIo event = new JfrEvents.FileIo();
+        event.begin();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Sink sink = gzip ? new GzipSink(channel) : new ChannelSink(channel);
+            try {
+                ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+                StringBuilder row = new StringBuilder(256);
+
+                row.append(CsvCodec.HEADER).append(CsvCodec.LINE_END);
+                encode(encoder, CharBuffer.wrap(row), buf, sink, false);
+                long rows = 0;
+                for (EWasteItem item : items) {
+                    row.setLength(0);
+                    CsvCodec.appendRecord(row, item);
+                    encode(encoder, CharBuffer.wrap(row), buf, sink, false);
+                    rows++;
+                    if (rows % PROGRESS_INTERVAL_ROWS == 0) {
+                        if (cancel != null && cancel.isCancelled()) {
+                            throw new CancellationException("Export cancelled");
+                        }
+                        if (listener != null) {
+                            listener.onProgress(rows, totalRows);
+                        }
+                    }
+                }
+                encode(encoder, CharBuffer.allocate(0), buf, sink, true);
+                while (encoder.flush(buf).isOverflow()) {
+                    sink.write(buf);
+                }
+                sink.finish(buf);
+                if (listener != null) {
+                    listener.onProgress(rows, totalRows);
+                }
+                complete = true;
+                event.complete(gzip ? "exportGzip" : "export", target, rows, channel.size());
+                return rows;
+            } finally {
+                sink.close();
+            }
+        } finally {
+            if (complete) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private static void encode(CharsetEncoder encoder, CharBuffer chars, ByteBuffer buf, Sink sink,
+                               boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, buf, endOfInput);
+            if (result.isOverflow()) {
+                sink.write(buf);
+            } else if (result.isError()) {
+                result.throwException();
+            } else {
+                return;
+            }
+        }
+    }
+
+    // Takes a filled buffer (in write mode) and hands it back cleared
+    private interface Sink {
+        void write(ByteBuffer buf) throws IOException;
+
+        void finish(ByteBuffer buf) throws IOException;
+
+        void close();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+        buf.clear();
+    }
+
+    private static final class ChannelSink implements Sink {
+        private final FileChannel channel;
+
+        ChannelSink(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(ByteBuffer buf) throws IOException {
+            writeFully(channel, buf);
+        }
+
+        @Override
+        public void finish(ByteBuffer buf) throws IOException {
+            writeFully(channel, buf);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // gzip (RFC 1952) over a raw Deflater, so compression also works buffer to buffer without streams
+    private static final class GzipSink implements Sink {
+        private static final byte[] HEADER = { 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+        private static final byte[] NO_INPUT = new byte[0];
+
+        private final FileChannel channel;
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long inputBytes;
+
+        GzipSink(FileChannel channel) {
+            this.channel = channel;
+            out.put(HEADER);
+        }
+
+        @Override
+        public void write(ByteBuffer buf) throws IOException {
+            buf.flip();
+            inputBytes += buf.remaining();
+            crc.update(buf.duplicate());
+            deflater.setInput(buf);
+            while (!deflater.needsInput()) {
+                deflate();
+            }
+            // The deflater keeps a reference to its input; detach it before the buffer is reused
+            deflater.setInput(NO_INPUT);
+            buf.clear();
+        }
+
+        @Override
+        public void finish(ByteBuffer buf) throws IOException {
+            write(buf);
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate();
+            }
+            if (out.remaining() < 8) {
+                writeFully(channel, out);
+            }
+            out.putInt((int) crc.getValue());
+            out.putInt((int) inputBytes);
+            writeFully(channel, out);
+        }
+
+        private void deflate() throws IOException {
+            deflater.deflate(out, Deflater.NO_FLUSH);
+            if (!out.hasRemaining()) {
+                writeFully(channel, out);
+            }
+        }
+
+        @Override
+        public void close() {
+            deflater.end();
+        }
+    }
+}
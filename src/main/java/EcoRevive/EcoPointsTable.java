@@ -0,0 +1,173 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+// Eco-points rules as lookup tables instead of string switches:
+//   points = (category base + weight in kg * points per kg) * condition multiplier, truncated per item.
+// The rules come from eco-points.properties on the classpath, or from the file named by
+// -Decorevive.ecopoints.file, and are read once because InventoryStats keeps running totals
+// scored with them. If the file is missing or invalid the defaults in Constants apply.
+public final class EcoPointsTable {
+    private static final String CATEGORY_PREFIX = "category.";
+    private static final String CONDITION_PREFIX = "condition.";
+    private static final String DEFAULT_KEY = "default";
+
+    private final double pointsPerKg;
+    private final Map<String, Double> basePoints;
+    private final double defaultBasePoints;
+    private final Map<String, Double> multipliers;
+    private final double defaultMultiplier;
+
+    // Loaded on first use
+    private static final class Holder {
+        static final EcoPointsTable RULES = load();
+    }
+
+    private EcoPointsTable(double pointsPerKg, Map<String, Double> basePoints, double defaultBasePoints,
+                           Map<String, Double> multipliers, double defaultMultiplier) {
+        this.pointsPerKg = pointsPerKg;
+        this.basePoints = basePoints;
+        this.defaultBasePoints = defaultBasePoints;
+        this.multipliers = multipliers;
+        this.defaultMultiplier = defaultMultiplier;
+    }
+
+    public static EcoPointsTable get() {
+        return Holder.RULES;
+    }
+
+    // The rules that used to be hard-coded
+    public static EcoPointsTable defaults() {
+        Map<String, Double> base = new HashMap<>();
+        base.put(Constants.CAT_LAPTOP, (double) Constants.POINTS_HIGH_VALUE);
+        base.put(Constants.CAT_MOBILE, (double) Constants.POINTS_HIGH_VALUE);
+        base.put(Constants.CAT_TABLET, (double) Constants.POINTS_HIGH_VALUE);
+        base.put(Constants.CAT_TV, (double) Constants.POINTS_MEDIUM_VALUE);
+        base.put(Constants.CAT_APPLIANCE, (double) Constants.POINTS_MEDIUM_VALUE);
+        Map<String, Double> multiplier = new HashMap<>();
+        multiplier.put(Constants.COND_NEW, Constants.MULTIPLIER_NEW);
+        multiplier.put(Constants.COND_REFURBISHED, Constants.MULTIPLIER_REFURBISHED);
+        multiplier.put(Constants.COND_USED, Constants.MULTIPLIER_USED);
+        multiplier.put(Constants.COND_BROKEN, Constants.MULTIPLIER_BROKEN);
+        return new EcoPointsTable(Constants.POINTS_PER_KG, base, Constants.POINTS_STANDARD, multiplier, 1.0);
+    }
+
+    // Throws IllegalArgumentException for a missing points.per.kg, an unknown key or a value that is not a number
+    public static EcoPointsTable parse(Properties rules) {
+        double pointsPerKg = number(rules, "points.per.kg", null);
+        double defaultBase = Constants.POINTS_STANDARD;
+        double defaultMultiplier = 1.0;
+        Map<String, Double> base = new HashMap<>();
+        Map<String, Double> multiplier = new HashMap<>();
+        for (String key : rules.stringPropertyNames()) {
+            if (key.startsWith(CATEGORY_PREFIX)) {
+                String category = key.substring(CATEGORY_PREFIX.length());
+                if (category.equals(DEFAULT_KEY)) {
+                    defaultBase = number(rules, key, defaultBase);
+                } else {
+                    base.put(category, number(rules, key, null));
+                }
+            } else if (key.startsWith(CONDITION_PREFIX)) {
+                String condition = key.substring(CONDITION_PREFIX.length());
+                if (condition.equals(DEFAULT_KEY)) {
+                    defaultMultiplier = number(rules, key, defaultMultiplier);
+                } else {
+                    multiplier.put(condition, number(rules, key, null));
+                }
+            } else if (!key.equals("points.per.kg")) {
+                throw new IllegalArgumentException("Unknown eco-points rule: " + key);
+            }
+        }
+        return new EcoPointsTable(pointsPerKg, base, defaultBase, multiplier, defaultMultiplier);
+    }
+
+    private static double number(Properties rules, String key, Double defaultValue) {
+        String value = rules.getProperty(key);
+        if (value == null) {
+            if (defaultValue == null) {
+                throw new IllegalArgumentException("Missing eco-points rule: " + key);
+            }
+            return defaultValue;
+        }
+        try {
+            double number = Double.parseDouble(value.trim());
+            if (!Double.isFinite(number)) {
+                throw new NumberFormatException();
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Eco-points rule " + key + " is not a number: " + value);
+        }
+    }
+
+    private static EcoPointsTable load() {
+        String file = System.getProperty(Constants.ECO_POINTS_FILE_PROPERTY);
+        Properties rules = new Properties();
+        try {
+            if (file == null) {
+                try (InputStream in = EcoPointsTable.class.getResourceAsStream(Constants.ECO_POINTS_RESOURCE)) {
+                    if (in == null) {
+                        return defaults();
+                    }
+                    rules.load(in);
+                }
+                return parse(rules);
+            }
+            Path path = Paths.get(file);
+            try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                rules.load(in);
+            }
+            EcoPointsTable table = parse(rules);
+            System.out.println("Eco-points rules loaded from " + path.toAbsolutePath());
+            return table;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error loading eco-points rules, using the built-in ones: " + e);
+            return defaults();
+        }
+    }
+
+    public double getPointsPerKg() {
+        return pointsPerKg;
+    }
+
+    public double basePoints(String category) {
+        Double points = basePoints.get(category);
+        return points != null ? points : defaultBasePoints;
+    }
+
+    public double multiplier(String condition) {
+        Double multiplier = multipliers.get(condition);
+        return multiplier != null ? multiplier : defaultMultiplier;
+    }
+
+    // Eco points awarded for a single item
+    public int pointsFor(EWasteItem item) {
+        return score(basePoints(item.getCategory()), item.getWeight(), pointsPerKg, multiplier(item.getCondition()));
+    }
+
+    // Kept in one place so every scorer (including the Vector API one in the benchmarks) performs
+    // the exact same floating point steps
+    static int score(double basePoints, double weight, double pointsPerKg, double multiplier) {
+        return (int) ((basePoints + weight * pointsPerKg) * multiplier);
+    }
+
+    // Sum of the points of rows 0..size-1, where row i weighs weights[i] and scores with
+    // base[categoryCodes[i] & 0xFF] and multiplier[conditionCodes[i] & 0xFF]. Wraps like int addition.
+    public int sum(double[] weights, byte[] categoryCodes, double[] base, byte[] conditionCodes,
+                   double[] multiplier, int size) {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += score(base[categoryCodes[i] & 0xFF], weights[i], pointsPerKg, multiplier[conditionCodes[i] & 0xFF]);
+        }
+        return total;
+    }
+}
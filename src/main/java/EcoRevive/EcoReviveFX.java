@@ -1,25 +1,39 @@
 package EcoRevive;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
+import java.io.IOException;
+import java.nio.file.Paths;
 
 public class EcoReviveFX extends Application {
 
     private RecyclingManager manager;
     private FileService fileService;
+    private InventoryJournal journal;
+    private ObservableInventory inventoryView;
     private BorderPane mainLayout;
     private FXDashboardPanel dashboardPanel;
+    private ApiServer apiServer;
+    // Set once the data file has been read completely. Until then nothing is journaled, compacted
+    // or saved, so a partial inventory never replaces the file.
+    private boolean inventoryLoaded;
 
     @Override
     public void start(Stage primaryStage) {
         manager = new RecyclingManager();
         fileService = new FileService();
-        manager.setRecycledItems(fileService.loadInventory());
+        // Queue batches are applied on the FX thread, between other UI events
+        manager.getQueueProcessor().setApplyExecutor(Platform::runLater);
+        inventoryView = new ObservableInventory(manager);
+        inventoryView.setLoading(true);
+        manager.registerMetrics();
+        Metrics.startReporting();
 
         mainLayout = new BorderPane();
         mainLayout.getStyleClass().add(Constants.STYLE_ROOT);
@@ -31,6 +45,14 @@ public class EcoReviveFX extends Application {
         // Initial View
         showManagementPanel();
 
+        // Loading status, removed once the inventory and journal are in
+        ProgressBar loadProgress = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+        Label loadStatus = new Label("Loading inventory...");
+        HBox statusBar = new HBox(10, loadProgress, loadStatus);
+        statusBar.setPadding(new Insets(5, 15, 5, 15));
+        statusBar.setAlignment(Pos.CENTER_LEFT);
+        mainLayout.setBottom(statusBar);
+
         Scene scene = new Scene(mainLayout, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
         scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
 
@@ -41,6 +63,90 @@ public class EcoReviveFX extends Application {
             saveAndExit();
         });
         primaryStage.show();
+        loadInventoryAsync(loadProgress, loadStatus);
+    }
+
+    // The window is shown before the data file is read. Chunks are appended as they are decoded,
+    // so the panels fill in progressively; editing stays disabled until the journal has been
+    // replayed on top of the loaded snapshot and attached.
+    private void loadInventoryAsync(ProgressBar loadProgress, Label loadStatus) {
+        Thread.ofVirtual().name("inventory-load").start(() -> {
+            boolean loaded = false;
+            InventoryJournal attached = null;
+            ApiServer server = null;
+            Throwable failure = null;
+            try {
+                int nextIdMark = fileService.loadInventory(Constants.LOAD_CHUNK_SIZE, (chunk, done, total) -> {
+                    manager.appendLoadedItems(chunk);
+                    Platform.runLater(() -> {
+                        loadProgress.setProgress((double) done / total);
+                        loadStatus.setText("Loading inventory... " + done + " / " + total + " items");
+                    });
+                });
+                manager.finishLoading(nextIdMark);
+                loaded = true;
+
+                InventoryJournal opened = new InventoryJournal(Paths.get(""), fileService);
+                try {
+                    opened.open(manager);
+                    attached = opened;
+                } catch (IOException e) {
+                    System.err.println("Error opening journal, falling back to save on exit: " + e.getMessage());
+                }
+                server = startApiServer();
+            } catch (Throwable e) {
+                // Includes read failures after some chunks were appended: the journal is not attached
+                System.err.println("Error loading inventory: " + e);
+                failure = e;
+            } finally {
+                // Whatever happened, the progress bar goes away and the FX side learns the outcome
+                boolean complete = loaded;
+                InventoryJournal journalResult = attached;
+                ApiServer serverResult = server;
+                Throwable error = failure;
+                Platform.runLater(() -> finishLoad(complete, journalResult, serverResult, error));
+            }
+        });
+    }
+
+    private void finishLoad(boolean loaded, InventoryJournal attached, ApiServer server, Throwable failure) {
+        inventoryLoaded = loaded;
+        journal = attached;
+        apiServer = server;
+        mainLayout.setBottom(null);
+        // After a failed read the partial inventory stays read-only, since none of it can be saved
+        inventoryView.setLoading(!loaded);
+        if (failure != null) {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Load Failed");
+            alert.setHeaderText(null);
+            alert.setContentText((loaded ? "The inventory was loaded, but starting up failed: "
+                                         : "The inventory could not be loaded completely. Editing is disabled and "
+                                           + "nothing will be saved over the data file: ")
+                                 + failure);
+            if (mainLayout.getScene() != null && mainLayout.getScene().getWindow() != null) {
+                alert.initOwner(mainLayout.getScene().getWindow());
+            }
+            alert.getDialogPane().getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
+            alert.getDialogPane().getStyleClass().add(Constants.STYLE_CUSTOM_DIALOG);
+            alert.show();
+        }
+    }
+
+    // Optional REST API next to the GUI: -Decorevive.api.port=<port> (null when not requested or it fails)
+    private ApiServer startApiServer() {
+        String port = System.getProperty(Constants.API_PORT_PROPERTY);
+        if (port == null) {
+            return null;
+        }
+        try {
+            ApiServer server = new ApiServer(manager, new java.net.InetSocketAddress(Integer.parseInt(port)));
+            server.start();
+            return server;
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Error starting REST API on port " + port + ": " + e.getMessage());
+            return null;
+        }
     }
 
     private StackPane createNavBar() {
@@ -106,16 +212,21 @@ public class EcoReviveFX extends Application {
     }
 
     private void showManagementPanel() {
+        disposeDashboard();
         ManagementPanel panel = new ManagementPanel(manager);
+        // Submitting, processing and importing all mutate the inventory; wait for the load
+        panel.disableProperty().bind(inventoryView.loadingProperty());
         mainLayout.setCenter(panel);
     }
 
     private void showInventoryPanel() {
-        InventoryPanel panel = new InventoryPanel(manager, fileService);
+        disposeDashboard();
+        InventoryPanel panel = new InventoryPanel(manager, fileService, inventoryView);
         mainLayout.setCenter(panel);
     }
 
     private void showStatsPanel() {
+        disposeDashboard();
         dashboardPanel = new FXDashboardPanel(manager);
         
         VBox container = new VBox(20, dashboardPanel);
@@ -129,8 +240,25 @@ public class EcoReviveFX extends Application {
         mainLayout.setCenter(container);
     }
 
+    private void disposeDashboard() {
+        if (dashboardPanel != null) {
+            dashboardPanel.dispose();
+            dashboardPanel = null;
+        }
+    }
+
     private void saveAndExit() {
-        fileService.saveInventory(manager.getRecycledItems());
+        if (apiServer != null) {
+            apiServer.close();
+        }
+        // Every change is already journaled; closing just flushes the last batch.
+        // Saving before the whole file was read would drop the unread part.
+        if (journal != null) {
+            journal.close();
+        }
+        if (inventoryLoaded && (journal == null || journal.hasFailed())) {
+            fileService.saveInventory(manager.snapshot(), manager.getNextIdMark());
+        }
         System.exit(0);
     }
 
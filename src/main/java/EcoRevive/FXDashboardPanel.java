@@ -1,5 +1,6 @@
 package EcoRevive;
 
+import javafx.application.Platform;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.NumberAxis;
@@ -13,12 +14,42 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.Priority;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class FXDashboardPanel extends BorderPane {
+    // Aggregates are read here, never on the FX thread; shared because panels are rebuilt on navigation
+    private static final ScheduledExecutorService REFRESHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "dashboard-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final long MIN_REFRESH_INTERVAL_NANOS =
+        TimeUnit.SECONDS.toNanos(1) / Constants.DASHBOARD_MAX_REFRESHES_PER_SECOND;
+
     private RecyclingManager manager;
     private PieChart pieChart;
     private BarChart<String, Number> barChart;
+    // Chart data is created once per key and then updated in place, so charts animate instead of rebuilding
+    private final Map<String, PieChart.Data> categorySlices = new HashMap<>();
+    private final Map<String, XYChart.Data<String, Number>> conditionBars = new HashMap<>();
+    private final XYChart.Series<String, Number> conditionSeries = new XYChart.Series<>();
+
+    // Bursts of changes collapse into one pending refresh
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private volatile long lastRefreshNanos = System.nanoTime() - MIN_REFRESH_INTERVAL_NANOS;
+    private volatile boolean disposed;
+    private final InventoryListener changeListener = new InventoryListener() {
+        @Override public void itemAdded(EWasteItem item) { updateCharts(); }
+        @Override public void itemsAdded(java.util.List<EWasteItem> items) { updateCharts(); }
+        @Override public void itemRemoved(EWasteItem item) { updateCharts(); }
+        @Override public void itemReplaced(EWasteItem oldItem, EWasteItem newItem) { updateCharts(); }
+        @Override public void inventoryReset() { updateCharts(); }
+    };
     
     private Label totalItemsLabel;
     private Label totalWeightLabel;
@@ -28,9 +59,16 @@ public class FXDashboardPanel extends BorderPane {
     public FXDashboardPanel(RecyclingManager manager) {
         this.manager = manager;
         initUI();
+        manager.addInventoryListener(changeListener);
         updateCharts();
     }
 
+    // Stop listening once the panel is no longer shown
+    public void dispose() {
+        disposed = true;
+        manager.removeInventoryListener(changeListener);
+    }
+
     private void initUI() {
         Label titleLabel = new Label("Recycling Statistics Dashboard");
         titleLabel.getStyleClass().add("header-label");
@@ -89,6 +127,7 @@ public class FXDashboardPanel extends BorderPane {
         barChart = new BarChart<>(xAxis, yAxis);
         barChart.setTitle("Condition Breakdown");
         barChart.setLegendVisible(false);
+        barChart.getData().add(conditionSeries);
         VBox barContainer = new VBox(barChart);
         barContainer.getStyleClass().add("card");
         VBox.setVgrow(barContainer, Priority.ALWAYS);
@@ -122,43 +161,74 @@ public class FXDashboardPanel extends BorderPane {
         return card;
     }
 
+    // Schedule a refresh; callable from any thread, at most DASHBOARD_MAX_REFRESHES_PER_SECOND run
     public void updateCharts() {
-        // Update Summary Cards
-        int totalItems = manager.getRecycledItems().size();
-        double totalWeight = 0;
-        for (EWasteItem item : manager.getRecycledItems()) {
-            totalWeight += item.getWeight();
+        if (disposed || !refreshQueued.compareAndSet(false, true)) {
+            return;
         }
+        long wait = Math.max(0, lastRefreshNanos + MIN_REFRESH_INTERVAL_NANOS - System.nanoTime());
+        REFRESHER.schedule(this::refresh, wait, TimeUnit.NANOSECONDS);
+    }
+
+    private void refresh() {
+        // Cleared before reading so changes made during the read queue another pass
+        refreshQueued.set(false);
+        lastRefreshNanos = System.nanoTime();
+        if (disposed) {
+            return;
+        }
+        InventoryStats.Snapshot snapshot = manager.getStatsSnapshot();
         int pendingCount = manager.getPendingItems().size();
-        int ecoPoints = manager.calculateEcoPoints();
-        
-        if (totalItemsLabel != null) totalItemsLabel.setText(String.valueOf(totalItems));
-        if (totalWeightLabel != null) totalWeightLabel.setText(String.format("%.1f kg", totalWeight));
+        Platform.runLater(UiStalls.watch("Dashboard", "Refresh charts", () -> applySnapshot(snapshot, pendingCount)));
+    }
+
+    private void applySnapshot(InventoryStats.Snapshot snapshot, int pendingCount) {
+        // Update Summary Cards
+        if (totalItemsLabel != null) totalItemsLabel.setText(String.valueOf(snapshot.getTotalItems()));
+        if (totalWeightLabel != null) totalWeightLabel.setText(String.format("%.1f kg", snapshot.getTotalWeight()));
         if (pendingLabel != null) pendingLabel.setText(String.valueOf(pendingCount));
-        if (ecoPointsLabel != null) ecoPointsLabel.setText(String.valueOf(ecoPoints));
+        if (ecoPointsLabel != null) ecoPointsLabel.setText(String.valueOf(snapshot.getEcoPoints()));
 
         // Update Pie Chart
-        Map<String, Integer> categoryCount = new HashMap<>();
-        for (EWasteItem item : manager.getRecycledItems()) {
-            categoryCount.put(item.getCategory(), categoryCount.getOrDefault(item.getCategory(), 0) + 1);
+        Map<String, Integer> categoryCounts = snapshot.getCategoryCounts();
+        for (Map.Entry<String, Integer> entry : categoryCounts.entrySet()) {
+            PieChart.Data slice = categorySlices.get(entry.getKey());
+            if (slice == null) {
+                slice = new PieChart.Data(entry.getKey(), entry.getValue());
+                categorySlices.put(entry.getKey(), slice);
+                pieChart.getData().add(slice);
+            } else if (slice.getPieValue() != entry.getValue()) {
+                slice.setPieValue(entry.getValue());
+            }
         }
-
-        pieChart.getData().clear();
-        for (Map.Entry<String, Integer> entry : categoryCount.entrySet()) {
-            pieChart.getData().add(new PieChart.Data(entry.getKey(), entry.getValue()));
+        Iterator<Map.Entry<String, PieChart.Data>> slices = categorySlices.entrySet().iterator();
+        while (slices.hasNext()) {
+            Map.Entry<String, PieChart.Data> entry = slices.next();
+            if (!categoryCounts.containsKey(entry.getKey())) {
+                pieChart.getData().remove(entry.getValue());
+                slices.remove();
+            }
         }
 
         // Update Bar Chart
-        Map<String, Integer> conditionCount = new HashMap<>();
-        for (EWasteItem item : manager.getRecycledItems()) {
-            conditionCount.put(item.getCondition(), conditionCount.getOrDefault(item.getCondition(), 0) + 1);
+        Map<String, Integer> conditionCounts = snapshot.getConditionCounts();
+        for (Map.Entry<String, Integer> entry : conditionCounts.entrySet()) {
+            XYChart.Data<String, Number> bar = conditionBars.get(entry.getKey());
+            if (bar == null) {
+                bar = new XYChart.Data<>(entry.getKey(), entry.getValue());
+                conditionBars.put(entry.getKey(), bar);
+                conditionSeries.getData().add(bar);
+            } else if (bar.getYValue().intValue() != entry.getValue()) {
+                bar.setYValue(entry.getValue());
+            }
         }
-
-        barChart.getData().clear();
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-        for (Map.Entry<String, Integer> entry : conditionCount.entrySet()) {
-            series.getData().add(new XYChart.Data<>(entry.getKey(), entry.getValue()));
+        Iterator<Map.Entry<String, XYChart.Data<String, Number>>> bars = conditionBars.entrySet().iterator();
+        while (bars.hasNext()) {
+            Map.Entry<String, XYChart.Data<String, Number>> entry = bars.next();
+            if (!conditionCounts.containsKey(entry.getKey())) {
+                conditionSeries.getData().remove(entry.getValue());
+                bars.remove();
+            }
         }
-        barChart.getData().add(series);
     }
 }
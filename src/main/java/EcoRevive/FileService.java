@@ -1,61 +1,288 @@
 package EcoRevive;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
 public class FileService {
-    private static final String FILE_NAME = "ewaste_data.txt";
+    private static final String FILE_NAME = "ewaste_data.bin";
+    private static final String LEGACY_FILE_NAME = "ewaste_data.txt";
 
-    // Save the list of recycled items to file
-    public void saveInventory(MyLinkedList<EWasteItem> items) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_NAME))) {
-            for (EWasteItem item : items) {
-                writer.write(item.toFileString());
-                writer.newLine();
-            }
-            System.out.println("Inventory saved to " + FILE_NAME);
+    // Binary format: fixed 32-byte header followed by ItemCodec records
+    // [i32 magic 'ECOR'][u16 version][u16 flags][i64 count][i64 generation][i64 next ID]
+    // Version 1 files have no generation and versions before 3 no next-ID mark (both read as 0).
+    private static final int MAGIC = 0x45434F52;
+    private static final short FORMAT_VERSION = 3;
+    private static final int HEADER_SIZE = 32;
+    private static final int HEADER_COUNT_OFFSET = 8;
+    private static final int HEADER_NEXT_ID_OFFSET = 24;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final long MAP_WINDOW_SIZE = 64L << 20;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final LatencyHistogram LOAD_LATENCY = Metrics.histogram("file.loadInventory");
+    // Every snapshot write: full saves and journal compaction
+    private static final LatencyHistogram SAVE_LATENCY = Metrics.histogram("file.saveInventory");
+    private static final LongAdder ITEMS_LOADED = Metrics.counter("file.itemsLoaded");
+    private static final LongAdder ITEMS_SAVED = Metrics.counter("file.itemsSaved");
+
+    private final Path dataFile;
+    private final Path legacyFile;
+
+    public interface ChunkListener {
+        // Called on the loading thread for each decoded chunk; total is the item count in the file
+        void onChunk(MyLinkedList<EWasteItem> chunk, long loaded, long total);
+    }
+
+    public FileService() {
+        this(Paths.get(""));
+    }
+
+    public FileService(Path directory) {
+        this.dataFile = directory.resolve(FILE_NAME);
+        this.legacyFile = directory.resolve(LEGACY_FILE_NAME);
+    }
+
+    // Save the list of recycled items to file.
+    // A full save starts a new generation, which supersedes any journal written against the old one.
+    public void saveInventory(Iterable<EWasteItem> items) {
+        saveInventory(items, 0);
+    }
+
+    // nextIdMark is the manager's next ID, stored so a load does not have to rescan every ID (0 = unknown)
+    public void saveInventory(Iterable<EWasteItem> items, int nextIdMark) {
+        try {
+            writeSnapshot(items, readSnapshotGeneration() + 1, nextIdMark);
+            System.out.println("Inventory saved to " + dataFile);
         } catch (IOException e) {
             System.err.println("Error saving inventory: " + e.getMessage());
         }
     }
 
-    // Load items from file
-    public MyLinkedList<EWasteItem> loadInventory() {
+    public void writeSnapshot(Iterable<EWasteItem> items, long generation, int nextIdMark) throws IOException {
+        commitSnapshot(writeBinary(items, generation, nextIdMark, ".tmp"));
+    }
+
+    // Two-step snapshot write for journal compaction: the slow part runs without any lock held and
+    // commitSnapshot (an atomic rename) is the moment the new generation takes over
+    public Path prepareSnapshot(Iterable<EWasteItem> items, long generation, int nextIdMark) throws IOException {
+        return writeBinary(items, generation, nextIdMark, ".compact.tmp");
+    }
+
+    public void commitSnapshot(Path prepared) throws IOException {
+        Files.move(prepared, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Generation stamped into the current data file (0 if there is none yet)
+    public long readSnapshotGeneration() throws IOException {
+        if (!Files.exists(dataFile)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IOException(dataFile + " is not an EcoRevive data file");
+            }
+            short version = header.getShort();
+            return version >= 2 ? header.getLong(16) : 0;
+        }
+    }
+
+    // Load items from file, converting the legacy text file on first run
+    public MyLinkedList<EWasteItem> loadInventory() throws IOException {
         MyLinkedList<EWasteItem> items = new MyLinkedList<>();
-        File file = new File(FILE_NAME);
+        loadInventory(Integer.MAX_VALUE, (chunk, loaded, total) -> items.appendAll(chunk));
+        return items;
+    }
 
-        if (!file.exists()) {
-            System.out.println("No existing data file found. Starting fresh.");
-            return items;
+    // Progressive load: items are handed to the listener in chunks as they are decoded, so a
+    // caller can show the first ones before the file has been read. Returns the persisted
+    // next-ID mark, or 0 if the file has none and the caller must derive it from the IDs.
+    // A read failure is thrown even after chunks were delivered: the caller holds a partial
+    // inventory and must not save it, journal on top of it or compact it over the file.
+    public int loadInventory(int chunkSize, ChunkListener listener) throws IOException {
+        long start = System.nanoTime();
+        JfrEvents.FileIo event = new JfrEvents.FileIo();
+        event.begin();
+        long[] items = new long[1];
+        try {
+            return load(chunkSize, (chunk, loaded, total) -> {
+                ITEMS_LOADED.add(chunk.size());
+                items[0] += chunk.size();
+                listener.onChunk(chunk, loaded, total);
+            });
+        } finally {
+            LOAD_LATENCY.recordSince(start);
+            event.complete("load", dataFile, items[0], fileSize(dataFile));
         }
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                EWasteItem item = EWasteItem.fromFileString(line);
-                if (item != null) {
-                    items.add(item);
-                }
-            }
-            System.out.println("Inventory loaded from " + FILE_NAME);
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
         } catch (IOException e) {
-            System.err.println("Error loading inventory: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private int load(int chunkSize, ChunkListener listener) throws IOException {
+        if (Files.exists(dataFile)) {
+            int nextIdMark = readBinary(chunkSize, listener);
+            System.out.println("Inventory loaded from " + dataFile);
+            return nextIdMark;
+        }
+
+        if (Files.exists(legacyFile)) {
+            MyLinkedList<EWasteItem> items = loadLegacyInventory();
+            saveInventory(items);
+            System.out.println("Converted " + legacyFile + " to " + dataFile);
+            listener.onChunk(items, items.size(), items.size());
+            return 0;
+        }
+
+        System.out.println("No existing data file found. Starting fresh.");
+        return 0;
+    }
+
+    // An unreadable legacy file is thrown rather than converted into an empty data file
+    private MyLinkedList<EWasteItem> loadLegacyInventory() throws IOException {
+        MyLinkedList<String> errors = new MyLinkedList<>();
+        MyLinkedList<EWasteItem> items = new ChunkedTextLoader().load(legacyFile, errors);
+        int reported = 0;
+        for (String error : errors) {
+            if (reported++ == MAX_REPORTED_ERRORS) {
+                System.err.println("... and " + (errors.size() - MAX_REPORTED_ERRORS) + " more malformed lines");
+                break;
+            }
+            System.err.println("Skipped malformed " + legacyFile + " " + error);
         }
         return items;
     }
 
-    // Export to CSV
-    public void exportToCSV(MyLinkedList<EWasteItem> items, String filename) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-            // Header
-            writer.write("ID,Name,Category,Weight,Condition");
-            writer.newLine();
+    // Writes and fsyncs the snapshot beside the data file; returns the file to commit.
+    // The item count is patched into the header at the end, so any Iterable can be streamed.
+    private Path writeBinary(Iterable<EWasteItem> items, long generation, int nextIdMark, String tempSuffix)
+            throws IOException {
+        long start = System.nanoTime();
+        JfrEvents.FileIo event = new JfrEvents.FileIo();
+        event.begin();
+        long count = 0;
+        long bytes;
+        Path temp = dataFile.resolveSibling(dataFile.getFileName() + tempSuffix);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            buf.putInt(MAGIC);
+            buf.putShort(FORMAT_VERSION);
+            buf.putShort((short) 0);
+            buf.putLong(0);
+            buf.putLong(generation);
+            buf.putLong(nextIdMark);
+
             for (EWasteItem item : items) {
-                writer.write(item.toFileString());
-                writer.newLine();
+                ItemCodec.Encoded record = ItemCodec.encode(item);
+                if (buf.remaining() < record.size()) {
+                    drain(channel, buf);
+                }
+                record.writeTo(buf);
+                count++;
+            }
+            drain(channel, buf);
+            ITEMS_SAVED.add(count);
+            buf.putLong(count);
+            buf.flip();
+            while (buf.hasRemaining()) {
+                channel.write(buf, HEADER_COUNT_OFFSET + buf.position());
+            }
+            channel.force(true);
+            bytes = channel.size();
+        }
+        SAVE_LATENCY.recordSince(start);
+        event.complete("save", dataFile, count, bytes);
+        return temp;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+        buf.clear();
+    }
+
+    // Records are read straight from the page cache through a sliding mapped window
+    private int readBinary(int chunkSize, ChunkListener listener) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Truncated header in " + dataFile);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(dataFile + " is not an EcoRevive data file");
+            }
+            short version = header.getShort();
+            if (version > FORMAT_VERSION) {
+                throw new IOException("Unsupported data file version " + version);
+            }
+            header.getShort(); // flags
+            long count = header.getLong();
+            int nextIdMark = version >= 3 ? (int) header.getLong(HEADER_NEXT_ID_OFFSET) : 0;
+
+            byte[] scratch = new byte[ItemCodec.MAX_FIELD_BYTES];
+            long windowStart = HEADER_SIZE;
+            MappedByteBuffer window = map(channel, windowStart, fileSize);
+            MyLinkedList<EWasteItem> chunk = new MyLinkedList<>();
+            for (long i = 0; i < count; i++) {
+                // Slide the window forward whenever a full record might not fit in it
+                if (window.remaining() < ItemCodec.MAX_RECORD_BYTES && windowStart + window.limit() < fileSize) {
+                    windowStart += window.position();
+                    window = map(channel, windowStart, fileSize);
+                }
+                chunk.add(ItemCodec.read(window, scratch));
+                if (chunk.size() == chunkSize) {
+                    listener.onChunk(chunk, i + 1, count);
+                    chunk = new MyLinkedList<>();
+                }
             }
+            if (!chunk.isEmpty()) {
+                listener.onChunk(chunk, count, count);
+            }
+            return nextIdMark;
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IOException("Truncated record in " + dataFile, e);
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long start, long fileSize) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MAP_WINDOW_SIZE, fileSize - start));
+    }
+
+    // Export to CSV (RFC 4180; gzip-compressed when the file name ends in ".gz")
+    public void exportToCSV(Iterable<EWasteItem> items, String filename) {
+        try {
+            CsvExporter.export(items, -1, Paths.get(filename), null, null);
             System.out.println("Inventory exported to " + filename);
         } catch (IOException e) {
             System.err.println("Error exporting to CSV: " + e.getMessage());
         }
     }
+
+    // Same export on a background thread, with progress; cancel the future to abort
+    public CompletableFuture<Long> exportToCSVAsync(InventorySnapshot items, Path target,
+                                                    CsvExporter.ProgressListener listener) {
+        return CsvExporter.exportAsync(items, items.size(), target, listener);
+    }
 }
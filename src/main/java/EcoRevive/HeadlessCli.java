@@ -0,0 +1,257 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+// Headless batch mode: java -jar ecorevive.jar <command> [options]
+// Drives RecyclingManager and FileService directly and never touches JavaFX, so it starts in
+// milliseconds and needs no display. Each command prints one JSON document to stdout;
+// diagnostics go to stderr. Exit code is 0 on success, 1 on failure and 2 on bad usage.
+public class HeadlessCli {
+    private static final Set<String> COMMANDS = Set.of(
+        "load", "process-queue", "stats", "search", "export", "import", "compact", "serve", "help");
+
+    private static final String USAGE = String.join("\n",
+        "Usage: <command> [options]",
+        "Commands:",
+        "  load                     load the inventory and replay the journal",
+        "  process-queue            move every pending item into the inventory",
+        "  stats                    totals, eco-points and category/condition counts",
+        "  search <query>           items whose ID, name or category contains query",
+        "  export <file>            write the inventory as CSV (gzip if file ends in .gz)",
+        "  import <file>            validate a CSV file and add its rows to the pending queue",
+        "  compact                  fold the journal into a fresh snapshot",
+        "  serve                    run the REST API until the process is stopped",
+        "Options:",
+        "  --data-dir <dir>         directory holding ewaste_data.* (default: current directory)",
+        "  --limit <n>              search: return at most n items",
+        "  --parallelism <n>        import: validation threads",
+        "  --port <n>               serve: listening port (default " + Constants.API_DEFAULT_PORT + ")");
+
+    private static class UsageException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UsageException(String message) {
+            super(message);
+        }
+    }
+
+    public static boolean isCommand(String arg) {
+        return COMMANDS.contains(arg);
+    }
+
+    public static int run(String[] args) {
+        PrintStream out = System.out;
+        // Keep stdout for the JSON result; the services log progress to System.out
+        System.setOut(System.err);
+        try {
+            List<String> positional = new ArrayList<>();
+            Map<String, String> options = parseOptions(Arrays.copyOfRange(args, 1, args.length), positional);
+            if (args[0].equals("help")) {
+                out.println(USAGE);
+                return 0;
+            }
+            if (args[0].equals("serve")) {
+                return serve(options, out);
+            }
+            Map<String, Object> result = execute(args[0], positional, options);
+            out.println(Json.write(result));
+            return 0;
+        } catch (UsageException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            out.println(Json.write(Map.of("error", e.getMessage())));
+            return 2;
+        } catch (Exception e) {
+            out.println(Json.write(Map.of("error", String.valueOf(e.getMessage()))));
+            return 1;
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args, List<String> positional) throws UsageException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--")) {
+                if (i + 1 >= args.length) {
+                    throw new UsageException("Missing value for " + args[i]);
+                }
+                options.put(args[i].substring(2), args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        return options;
+    }
+
+    private static Map<String, Object> execute(String command, List<String> positional, Map<String, String> options)
+            throws Exception {
+        Path directory = Paths.get(options.getOrDefault("data-dir", ""));
+        long start = System.nanoTime();
+        try (Session session = new Session(directory)) {
+            RecyclingManager manager = session.manager;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("command", command);
+            result.put("loadMillis", millisSince(start));
+            start = System.nanoTime();
+
+            switch (command) {
+                case "load":
+                    break;
+                case "process-queue":
+                    result.put("processed", manager.processQueue().size());
+                    break;
+                case "stats":
+                    InventoryStats.Snapshot stats = manager.getStatsSnapshot();
+                    result.put("totalItems", stats.getTotalItems());
+                    result.put("totalWeightKg", stats.getTotalWeight());
+                    result.put("ecoPoints", stats.getEcoPoints());
+                    result.put("mostCommonCategory", stats.getMostCommonCategory());
+                    result.put("categories", stats.getCategoryCounts());
+                    result.put("conditions", stats.getConditionCounts());
+                    break;
+                case "search": {
+                    String query = argument(positional, "search <query>");
+                    int limit = intOption(options, "limit", Integer.MAX_VALUE);
+                    MyLinkedList<EWasteItem> matches = manager.searchItems(query);
+                    List<EWasteItem> items = new ArrayList<>();
+                    for (EWasteItem item : matches) {
+                        if (items.size() == limit) {
+                            break;
+                        }
+                        items.add(item);
+                    }
+                    result.put("query", query);
+                    result.put("total", matches.size());
+                    result.put("items", items);
+                    break;
+                }
+                case "export": {
+                    Path target = Paths.get(argument(positional, "export <file>"));
+                    InventorySnapshot snapshot = manager.snapshot();
+                    result.put("file", target.toAbsolutePath().toString());
+                    result.put("rows", CsvExporter.export(snapshot, snapshot.size(), target, null, null));
+                    break;
+                }
+                case "import": {
+                    Path source = Paths.get(argument(positional, "import <file>"));
+                    BulkImporter importer = new BulkImporter(manager,
+                        intOption(options, "parallelism", Runtime.getRuntime().availableProcessors()));
+                    BulkImporter.Report report = importer.importFile(source);
+                    result.put("rowsRead", report.getRowsRead());
+                    result.put("imported", report.getImported());
+                    result.put("rejected", report.getRejected());
+                    result.put("rejectedFile", report.getRejectedFile() == null ? null : report.getRejectedFile().toString());
+                    result.put("rowsPerSecond", Math.round(report.getRowsPerSecond()));
+                    break;
+                }
+                case "compact":
+                    manager.compactJournal();
+                    result.put("generation", session.fileService.readSnapshotGeneration());
+                    break;
+                default:
+                    throw new UsageException("Unknown command: " + command);
+            }
+
+            result.put("inventorySize", manager.snapshot().size());
+            result.put("pending", manager.getPendingItems().size());
+            result.put("millis", millisSince(start));
+            return result;
+        }
+    }
+
+    // Long-running: prints the startup document, then serves until the JVM is told to stop.
+    // The shutdown hook stops the server before the journal is flushed and closed.
+    private static int serve(Map<String, String> options, PrintStream out) throws Exception {
+        Path directory = Paths.get(options.getOrDefault("data-dir", ""));
+        int port = intOption(options, "port", Constants.API_DEFAULT_PORT);
+        long start = System.nanoTime();
+        Session session = new Session(directory);
+        ApiServer server;
+        try {
+            server = new ApiServer(session.manager, new InetSocketAddress(port));
+        } catch (IOException e) {
+            session.close();
+            throw e;
+        }
+        session.manager.registerMetrics();
+        Metrics.startReporting();
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            session.close();
+            stopped.countDown();
+        }, "api-shutdown"));
+        server.start();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("command", "serve");
+        result.put("loadMillis", millisSince(start));
+        result.put("port", server.getPort());
+        result.put("inventorySize", session.manager.snapshot().size());
+        result.put("pending", session.manager.getPendingItems().size());
+        out.println(Json.write(result));
+        out.flush();
+        stopped.await();
+        return 0;
+    }
+
+    private static String argument(List<String> positional, String usage) throws UsageException {
+        if (positional.isEmpty()) {
+            throw new UsageException("Usage: " + usage);
+        }
+        return positional.get(0);
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) throws UsageException {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new UsageException("--" + name + " expects a number, got " + value);
+        }
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    // Same startup as the GUI: snapshot, then journal replay; closing flushes the journal
+    private static final class Session implements AutoCloseable {
+        final RecyclingManager manager = new RecyclingManager();
+        final FileService fileService;
+        final InventoryJournal journal;
+
+        Session(Path directory) throws IOException {
+            fileService = new FileService(directory);
+            manager.finishLoading(fileService.loadInventory(Constants.LOAD_CHUNK_SIZE,
+                (chunk, loaded, total) -> manager.appendLoadedItems(chunk)));
+            journal = new InventoryJournal(directory, fileService);
+            journal.open(manager);
+        }
+
+        // A journal that stopped recording mid-session is replaced by a full save
+        @Override
+        public void close() {
+            journal.close();
+            if (journal.hasFailed()) {
+                fileService.saveInventory(manager.snapshot(), manager.getNextIdMark());
+            }
+        }
+    }
+}
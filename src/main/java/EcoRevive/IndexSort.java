@@ -0,0 +1,101 @@
+package EcoRevive;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Stable merge sort of positions into an array, ordered by the elements they point at. Only two
+// int arrays are allocated, whatever the size; the elements themselves never move.
+final class IndexSort {
+    // Ranges up to this size are sorted sequentially by a fork/join task
+    private static final int SEQUENTIAL_SORT_CUTOFF = 1 << 13;
+
+    private IndexSort() {
+    }
+
+    // Positions 0 .. items.length - 1 in sorted order; equal elements keep their original order
+    static <T> int[] sortedOrder(T[] items, Comparator<? super T> comparator, boolean parallel) {
+        int[] order = new int[items.length];
+        int[] buffer = new int[items.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        if (parallel && order.length > SEQUENTIAL_SORT_CUTOFF) {
+            ForkJoinPool.commonPool().invoke(new SortTask<>(items, comparator, order, buffer, 0, order.length));
+        } else {
+            sort(items, comparator, order, buffer, 0, order.length);
+        }
+        return order;
+    }
+
+    // Bottom-up merge of order[from, to), bouncing between order and the same range of buffer
+    private static <T> void sort(T[] items, Comparator<? super T> comparator, int[] order, int[] buffer,
+                                 int from, int to) {
+        int[] source = order;
+        int[] target = buffer;
+        for (int width = 1; width < to - from; width <<= 1) {
+            for (int left = from; left < to; left += 2 * width) {
+                int middle = Math.min(left + width, to);
+                int right = Math.min(middle + width, to);
+                merge(items, comparator, source, target, left, middle, right);
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != order) {
+            System.arraycopy(source, from, order, from, to - from);
+        }
+    }
+
+    // Merge source[from, middle) and source[middle, to) into target.
+    // Ties take the left position first, which keeps the sort stable.
+    private static <T> void merge(T[] items, Comparator<? super T> comparator, int[] source, int[] target,
+                                  int from, int middle, int to) {
+        int left = from;
+        int right = middle;
+        int out = from;
+        while (left < middle && right < to) {
+            if (comparator.compare(items[source[left]], items[source[right]]) <= 0) {
+                target[out++] = source[left++];
+            } else {
+                target[out++] = source[right++];
+            }
+        }
+        System.arraycopy(source, left, target, out, middle - left);
+        System.arraycopy(source, right, target, out + middle - left, to - right);
+    }
+
+    private static final class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient T[] items;
+        private final transient Comparator<? super T> comparator;
+        private final int[] order;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+
+        SortTask(T[] items, Comparator<? super T> comparator, int[] order, int[] buffer, int from, int to) {
+            this.items = items;
+            this.comparator = comparator;
+            this.order = order;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_SORT_CUTOFF) {
+                sort(items, comparator, order, buffer, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask<>(items, comparator, order, buffer, from, middle),
+                      new SortTask<>(items, comparator, order, buffer, middle, to));
+            merge(items, comparator, order, buffer, from, middle, to);
+            System.arraycopy(buffer, from, order, from, to - from);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package EcoRevive;
+
+import javafx.collections.ObservableList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Rows of a table-backing ObservableList with an ID -> row index, so single-row edits on a large
+// list do not scan it. Rows are only ever appended, replaced in place or removed; removals move
+// later rows up, so a row is at most removedSinceReindex above its recorded index.
+// FX thread only (or whichever thread owns the list).
+class IndexedRows {
+    // Rebuild the index once this many rows have shifted since the last rebuild
+    private static final int REINDEX_AFTER_REMOVALS = 64;
+
+    private final ObservableList<EWasteItem> items;
+    private final Map<String, Integer> rowById = new HashMap<>();
+    private int removedSinceReindex;
+    // Rows whose ID an earlier row already holds; they have no index entry of their own
+    private int sharedIds;
+
+    IndexedRows(ObservableList<EWasteItem> items) {
+        this.items = items;
+        reindex();
+    }
+
+    ObservableList<EWasteItem> getItems() {
+        return items;
+    }
+
+    void add(EWasteItem item) {
+        note(item, items.size());
+        items.add(item);
+    }
+
+    // One change event for the table instead of one per item
+    void addAll(List<EWasteItem> added) {
+        int row = items.size();
+        for (EWasteItem item : added) {
+            note(item, row++);
+        }
+        items.addAll(added);
+    }
+
+    void setAll(List<EWasteItem> rows) {
+        items.setAll(rows);
+        reindex();
+    }
+
+    void clear() {
+        items.clear();
+        reindex();
+    }
+
+    boolean contains(EWasteItem item) {
+        return indexOf(item) >= 0;
+    }
+
+    // False if the item is not shown
+    boolean remove(EWasteItem item) {
+        int index = indexOf(item);
+        if (index < 0) return false;
+        items.remove(index);
+        rowById.remove(item.getId(), index);
+        if (++removedSinceReindex > REINDEX_AFTER_REMOVALS) {
+            reindex();
+        }
+        return true;
+    }
+
+    // Keeps the row in place; false if the old item is not shown
+    boolean replace(EWasteItem oldItem, EWasteItem newItem) {
+        int index = indexOf(oldItem);
+        if (index < 0) return false;
+        items.set(index, newItem);
+        if (oldItem.getId().equals(newItem.getId())) {
+            rowById.put(newItem.getId(), index);
+        } else {
+            rowById.remove(oldItem.getId(), index);
+            note(newItem, index);
+        }
+        return true;
+    }
+
+    // Row of this exact item, or -1
+    int indexOf(EWasteItem item) {
+        Integer recorded = rowById.get(item.getId());
+        if (recorded != null) {
+            int lowest = Math.max(0, recorded - removedSinceReindex);
+            for (int i = Math.min(recorded, items.size() - 1); i >= lowest; i--) {
+                if (items.get(i) == item) {
+                    rowById.put(item.getId(), i);
+                    return i;
+                }
+            }
+        }
+        if (sharedIds == 0) {
+            return -1;
+        }
+        // A later item sharing the ID of an earlier one has no index entry of its own
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == item) return i;
+        }
+        return -1;
+    }
+
+    private void note(EWasteItem item, int row) {
+        if (rowById.putIfAbsent(item.getId(), row) != null) {
+            sharedIds++;
+        }
+    }
+
+    private void reindex() {
+        rowById.clear();
+        sharedIds = 0;
+        for (int i = 0; i < items.size(); i++) {
+            note(items.get(i), i);
+        }
+        removedSinceReindex = 0;
+    }
+}
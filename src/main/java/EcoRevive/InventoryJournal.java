@@ -0,0 +1,573 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// Append-only write-ahead journal of RecyclingManager mutations.
+// Records are buffered in memory and written + fsynced by a background flusher
+// (group commit), so a crash loses at most one flush interval of work. Once enough
+// records pile up the inventory is written as a new snapshot generation and the
+// journal starts over, which keeps replay time on startup bounded. That snapshot is written on
+// a background thread, so mutations carry on while it is being written.
+public class InventoryJournal implements AutoCloseable {
+    private static final String FILE_NAME = "ewaste_data.journal";
+
+    // Header: [i32 magic 'ECOJ'][u16 version][u16 reserved][i64 snapshot generation]
+    // Record: [u8 op][i32 payload length][payload][i32 crc32 of op + payload]
+    // Enqueue payload: [i64 sequence][item]; process payload: [i32 count][i64 sequence] * count.
+    // Version 1 had no sequences: enqueue records were in queue order and process held only the count.
+    private static final int MAGIC = 0x45434F4A;
+    private static final short FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_OVERHEAD = 1 + 4 + 4;
+    // Wake the flusher early once this much is buffered
+    private static final int EAGER_FLUSH_BYTES = 1 << 20;
+
+    private static final byte OP_ENQUEUE = 1;
+    private static final byte OP_PROCESS = 2;
+    private static final byte OP_REMOVE = 3;
+    private static final byte OP_UPDATE = 4;
+    private static final byte OP_UNDO = 5;
+
+    private final Path journalFile;
+    private final Path nextJournalFile;
+    private final FileService fileService;
+    private final long flushIntervalMs;
+    private final int compactionThreshold;
+
+    // ioLock serializes channel access; lock guards the in-memory buffers (always taken second)
+    private final Object ioLock = new Object();
+    private final Object lock = new Object();
+    private final CRC32 crc = new CRC32();
+    private FileChannel channel;
+    private ByteBuffer pending = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer spare = ByteBuffer.allocate(64 * 1024);
+    private long generation;
+    private int recordsSinceSnapshot;
+    private long nextSequence = 1;
+    // Enqueue payloads not yet named by a process record, in sequence order; carried over on compaction
+    private final Map<Long, byte[]> unprocessed = new LinkedHashMap<>();
+    private boolean closed;
+    // Set when records can no longer be made durable; nothing more is journaled and the owner
+    // falls back to a full save
+    private boolean failed;
+    private Thread flusher;
+    // While a compaction runs, records appended after its cut are also kept here for the next journal
+    private Thread compactor;
+    private ByteBuffer tail;
+    private int tailRecords;
+
+    public InventoryJournal(Path directory, FileService fileService) {
+        this(directory, fileService, Constants.JOURNAL_FLUSH_INTERVAL_MS, Constants.JOURNAL_COMPACTION_THRESHOLD);
+    }
+
+    public InventoryJournal(Path directory, FileService fileService, long flushIntervalMs, int compactionThreshold) {
+        this.journalFile = directory.resolve(FILE_NAME);
+        this.nextJournalFile = directory.resolve(FILE_NAME + ".next");
+        this.fileService = fileService;
+        this.flushIntervalMs = flushIntervalMs;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    // Replays the journal on top of the already loaded snapshot, then starts logging manager mutations
+    public void open(RecyclingManager manager) throws IOException {
+        long snapshotGeneration = fileService.readSnapshotGeneration();
+        recoverInterruptedCompaction(snapshotGeneration);
+
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE,
+                                   StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validEnd;
+        boolean upgrade = false;
+        if (readGeneration(channel) == snapshotGeneration) {
+            upgrade = readVersion(channel) < FORMAT_VERSION;
+            validEnd = replay(manager);
+        } else {
+            // Missing, foreign or stale journal: its effects are already in the snapshot
+            channel.truncate(0);
+            ByteBuffer header = header(snapshotGeneration);
+            header.flip();
+            writeFully(channel, header, 0);
+            validEnd = HEADER_SIZE;
+        }
+        channel.truncate(validEnd);
+        channel.position(validEnd);
+        channel.force(true);
+        generation = snapshotGeneration;
+
+        manager.setJournal(this);
+        flusher = new Thread(this::flushLoop, "journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+
+        if (upgrade) {
+            // New records cannot be appended in the old format: start a new generation right away
+            manager.compactJournal();
+            if (generation == snapshotGeneration || hasFailed()) {
+                close();
+                throw new IOException("Could not convert " + journalFile + " to journal format " + FORMAT_VERSION);
+            }
+        }
+    }
+
+    // Returns the sequence the caller tags its enqueue with. Producers only share the lock for the
+    // buffer append: the enqueue itself happens afterwards, so the record always precedes the
+    // process record that names it, whatever order concurrent producers reach the queue in.
+    public long logEnqueue(EWasteItem item) {
+        byte[] record = itemPayload(item);
+        synchronized (lock) {
+            long sequence = nextSequence++;
+            if (closed || record == null) return sequence;
+            byte[] payload = ByteBuffer.allocate(8 + record.length).putLong(sequence).put(record).array();
+            unprocessed.put(sequence, payload);
+            appendLocked(OP_ENQUEUE, payload);
+            return sequence;
+        }
+    }
+
+    // sequences holds the enqueue sequences of the processed items, in the order they were dequeued
+    public void logProcess(long[] sequences, int count) {
+        ByteBuffer payload = ByteBuffer.allocate(4 + 8 * count).putInt(count);
+        for (int i = 0; i < count; i++) {
+            payload.putLong(sequences[i]);
+        }
+        synchronized (lock) {
+            for (int i = 0; i < count; i++) {
+                unprocessed.remove(sequences[i]);
+            }
+            appendLocked(OP_PROCESS, payload.array());
+        }
+    }
+
+    public void logRemove(String id) {
+        append(OP_REMOVE, id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void logUpdate(EWasteItem item) {
+        append(OP_UPDATE, itemPayload(item));
+    }
+
+    public void logUndo(EWasteItem item) {
+        append(OP_UNDO, itemPayload(item));
+    }
+
+    // True once a write or compaction failure left the journal unable to record changes. The
+    // owner must then save the inventory in full, which starts a generation that supersedes it.
+    public boolean hasFailed() {
+        synchronized (lock) {
+            return failed;
+        }
+    }
+
+    public boolean needsCompaction() {
+        synchronized (lock) {
+            return compactor == null && recordsSinceSnapshot >= compactionThreshold;
+        }
+    }
+
+    // Starts folding the journal into a new snapshot generation; a no-op if one is already running.
+    // The caller must hold the manager's monitor so snapshot and nextIdMark agree with each other
+    // and with the journal: that is the cut. The queue is carried over as the enqueue records no
+    // process record has named yet. Only the cut happens here, the snapshot is written on the
+    // journal-compactor thread.
+    public void startCompaction(InventorySnapshot snapshot, int nextIdMark) {
+        synchronized (lock) {
+            if (closed || failed || compactor != null) return;
+            long next = generation + 1;
+            ByteBuffer carried = header(next);
+            int carriedRecords = 0;
+            for (byte[] payload : unprocessed.values()) {
+                carried = writeRecord(carried, OP_ENQUEUE, payload);
+                carriedRecords++;
+            }
+            tail = ByteBuffer.allocate(64 * 1024);
+            tailRecords = 0;
+            int records = carriedRecords;
+            ByteBuffer start = carried;
+            compactor = new Thread(() -> compact(snapshot, nextIdMark, next, start, records), "journal-compactor");
+            compactor.setDaemon(true);
+            compactor.start();
+        }
+    }
+
+    // Waits for a running compaction (if any) to finish
+    public void awaitCompaction() {
+        Thread running;
+        synchronized (lock) {
+            running = compactor;
+        }
+        if (running == null) return;
+        try {
+            running.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Crash-safe ordering:
+    // 1. write the new snapshot beside the current one (no lock held; the old journal keeps
+    //    receiving every record, so a failure or crash here loses nothing)
+    // 2. write the next journal: unprocessed enqueues at the cut plus everything appended since
+    // 3. atomically replace the snapshot, stamped with the new generation (commit point)
+    // 4. move the next journal into place, then switch to its still open channel
+    // open() finishes or discards step 4 depending on which generation the snapshot carries.
+    // Steps 2-4 block appenders, but only for the records that arrived during step 1.
+    // A failure after step 3 leaves the old journal stale, so the journal is marked failed.
+    private void compact(InventorySnapshot snapshot, int nextIdMark, long next, ByteBuffer carried, int carriedRecords) {
+        try {
+            Path prepared = fileService.prepareSnapshot(snapshot, next, nextIdMark);
+            synchronized (ioLock) {
+                synchronized (lock) {
+                    tail.flip();
+                    if (carried.remaining() < tail.remaining()) {
+                        ByteBuffer grown = ByteBuffer.allocate(carried.position() + tail.remaining());
+                        carried.flip();
+                        carried = grown.put(carried);
+                    }
+                    carried.put(tail);
+                    FileChannel nextChannel = FileChannel.open(nextJournalFile, StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                    boolean committed = false;
+                    try {
+                        carried.flip();
+                        writeFully(nextChannel, carried, 0);
+                        nextChannel.force(true);
+
+                        fileService.commitSnapshot(prepared);
+                        committed = true;
+
+                        Files.move(nextJournalFile, journalFile, StandardCopyOption.REPLACE_EXISTING,
+                                   StandardCopyOption.ATOMIC_MOVE);
+                        nextChannel.position(nextChannel.size());
+                    } catch (IOException e) {
+                        nextChannel.close();
+                        if (committed) {
+                            // Restart recovers from the next journal, but this session has nowhere to write
+                            failLocked();
+                        }
+                        throw e;
+                    }
+
+                    // Records from before the cut are in the snapshot, the rest are in the new journal
+                    FileChannel replaced = channel;
+                    channel = nextChannel;
+                    pending.clear();
+                    generation = next;
+                    recordsSinceSnapshot = carriedRecords + tailRecords;
+                    System.out.println("Journal compacted into snapshot generation " + next);
+                    try {
+                        replaced.close();
+                    } catch (IOException e) {
+                        System.err.println("Error closing replaced journal: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error compacting journal: " + e.getMessage());
+        } finally {
+            synchronized (lock) {
+                tail = null;
+                compactor = null;
+            }
+        }
+    }
+
+    // Flushes what is buffered and stops the flusher; no full rewrite happens on shutdown
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+            lock.notifyAll();
+        }
+        awaitCompaction();
+        if (flusher != null) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        synchronized (ioLock) {
+            try {
+                if (channel != null) channel.close();
+            } catch (IOException e) {
+                System.err.println("Error closing journal: " + e.getMessage());
+            }
+        }
+    }
+
+    private void append(byte op, byte[] payload) {
+        synchronized (lock) {
+            appendLocked(op, payload);
+        }
+    }
+
+    private void appendLocked(byte op, byte[] payload) {
+        if (closed || failed || payload == null) return;
+        pending = writeRecord(pending, op, payload);
+        recordsSinceSnapshot++;
+        if (tail != null) {
+            tail = writeRecord(tail, op, payload);
+            tailRecords++;
+        }
+        if (pending.position() >= EAGER_FLUSH_BYTES) {
+            lock.notifyAll();
+        }
+    }
+
+    // Callers hold lock (or own buf exclusively); grows buf if the record does not fit
+    private ByteBuffer writeRecord(ByteBuffer buf, byte op, byte[] payload) {
+        int needed = RECORD_OVERHEAD + payload.length;
+        if (buf.remaining() < needed) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buf.capacity() * 2, buf.position() + needed));
+            buf.flip();
+            grown.put(buf);
+            buf = grown;
+        }
+        crc.reset();
+        crc.update(op);
+        crc.update(payload);
+        buf.put(op);
+        buf.putInt(payload.length);
+        buf.put(payload);
+        buf.putInt((int) crc.getValue());
+        return buf;
+    }
+
+    private void flushLoop() {
+        while (true) {
+            synchronized (lock) {
+                if (closed) return;
+                if (pending.position() < EAGER_FLUSH_BYTES) {
+                    try {
+                        lock.wait(flushIntervalMs);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            flush();
+        }
+    }
+
+    // One write + fsync for everything appended since the last flush
+    private void flush() {
+        synchronized (ioLock) {
+            ByteBuffer batch;
+            synchronized (lock) {
+                if (pending.position() == 0) return;
+                batch = pending;
+                pending = spare;
+                spare = batch;
+            }
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                // Later records would replay on top of a gap, so stop journaling altogether
+                System.err.println("Error writing journal: " + e.getMessage());
+                synchronized (lock) {
+                    failLocked();
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Callers hold lock
+    private void failLocked() {
+        if (failed) return;
+        failed = true;
+        pending.clear();
+        System.err.println("Journal disabled; the inventory will be saved in full instead");
+    }
+
+    private void recoverInterruptedCompaction(long snapshotGeneration) throws IOException {
+        if (!Files.exists(nextJournalFile)) return;
+        long nextGeneration;
+        try (FileChannel nextChannel = FileChannel.open(nextJournalFile, StandardOpenOption.READ)) {
+            nextGeneration = readGeneration(nextChannel);
+        }
+        if (nextGeneration == snapshotGeneration) {
+            // The snapshot was committed before the crash; the next journal belongs to it
+            Files.move(nextJournalFile, journalFile, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            Files.delete(nextJournalFile);
+        }
+    }
+
+    // Applies every intact record and returns the offset just past the last one
+    private long replay(RecyclingManager manager) throws IOException {
+        long size = channel.size();
+        MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        short version = buf.getShort(4);
+        buf.position(HEADER_SIZE);
+        byte[] scratch = new byte[ItemCodec.MAX_FIELD_BYTES];
+        int replayed = 0;
+        // Enqueued items wait here until a process record names them, so they reach the inventory in
+        // the order the live consumer dequeued them; whatever is left was still queued
+        Map<Long, EWasteItem> queued = new LinkedHashMap<>();
+        long lastSequence = 0;
+
+        while (buf.remaining() >= RECORD_OVERHEAD) {
+            int start = buf.position();
+            byte op = buf.get();
+            int length = buf.getInt();
+            if (length < 0 || buf.remaining() < length + 4) {
+                buf.position(start);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buf.get(payload);
+            crc.reset();
+            crc.update(op);
+            crc.update(payload);
+            if (buf.getInt() != (int) crc.getValue()) {
+                buf.position(start);
+                break;
+            }
+            ByteBuffer record = ByteBuffer.wrap(payload);
+            if (op == OP_ENQUEUE) {
+                long sequence;
+                if (version < 2) {
+                    sequence = lastSequence + 1;
+                    payload = ByteBuffer.allocate(8 + length).putLong(sequence).put(payload).array();
+                } else {
+                    sequence = record.getLong();
+                }
+                lastSequence = Math.max(lastSequence, sequence);
+                queued.put(sequence, ItemCodec.read(record, scratch));
+                unprocessed.put(sequence, payload);
+            } else if (op == OP_PROCESS) {
+                int count = record.getInt();
+                int added = 0;
+                Iterator<Map.Entry<Long, EWasteItem>> oldest = queued.entrySet().iterator();
+                for (int i = 0; i < count; i++) {
+                    EWasteItem item;
+                    if (version < 2) {
+                        if (!oldest.hasNext()) break;
+                        Map.Entry<Long, EWasteItem> entry = oldest.next();
+                        oldest.remove();
+                        unprocessed.remove(entry.getKey());
+                        item = entry.getValue();
+                    } else {
+                        long sequence = record.getLong();
+                        unprocessed.remove(sequence);
+                        item = queued.remove(sequence);
+                    }
+                    if (item != null) {
+                        manager.addItemToQueue(item);
+                        added++;
+                    }
+                }
+                manager.processQueue(added);
+            } else {
+                apply(manager, op, record, scratch);
+            }
+            replayed++;
+        }
+        for (Map.Entry<Long, EWasteItem> entry : queued.entrySet()) {
+            manager.requeueItem(entry.getValue(), entry.getKey());
+        }
+        nextSequence = lastSequence + 1;
+
+        long validEnd = buf.position();
+        if (validEnd < size) {
+            System.err.println("Discarded torn journal tail at offset " + validEnd);
+        }
+        recordsSinceSnapshot = replayed;
+        System.out.println("Replayed " + replayed + " journal records");
+        return validEnd;
+    }
+
+    private static void apply(RecyclingManager manager, byte op, ByteBuffer payload, byte[] scratch) {
+        switch (op) {
+            case OP_REMOVE:
+                manager.removeItem(StandardCharsets.UTF_8.decode(payload).toString());
+                break;
+            case OP_UPDATE: {
+                EWasteItem item = ItemCodec.read(payload, scratch);
+                manager.updateItem(item.getId(), item.getName(), item.getCategory(), item.getWeight(), item.getCondition());
+                break;
+            }
+            case OP_UNDO: {
+                EWasteItem item = ItemCodec.read(payload, scratch);
+                // The undo stack is not part of a snapshot, so a delete from before the
+                // last compaction is restored directly
+                if (!manager.undoDelete()) {
+                    manager.restoreItem(item);
+                }
+                break;
+            }
+            default:
+                System.err.println("Skipping unknown journal record type " + op);
+        }
+    }
+
+    private static byte[] itemPayload(EWasteItem item) {
+        try {
+            ItemCodec.Encoded record = ItemCodec.encode(item);
+            ByteBuffer buf = ByteBuffer.allocate(record.size());
+            record.writeTo(buf);
+            return buf.array();
+        } catch (IOException e) {
+            System.err.println("Error journaling item " + item.getId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static ByteBuffer header(long generation) {
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+        buf.putInt(MAGIC);
+        buf.putShort(FORMAT_VERSION);
+        buf.putShort((short) 0);
+        buf.putLong(generation);
+        return buf;
+    }
+
+    // Callers have checked the header with readGeneration
+    private static short readVersion(FileChannel channel) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(2);
+        while (buf.hasRemaining() && channel.read(buf, 4 + buf.position()) >= 0) {
+            // keep reading until the version is complete
+        }
+        return buf.getShort(0);
+    }
+
+    // Generation recorded in a journal header, or -1 if the file is empty or not a journal
+    private static long readGeneration(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) return -1;
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE);
+        while (buf.hasRemaining() && channel.read(buf, buf.position()) >= 0) {
+            // keep reading until the header is complete
+        }
+        buf.flip();
+        if (buf.getInt() != MAGIC) return -1;
+        buf.getShort(); // version
+        buf.getShort();
+        return buf.getLong();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            position += channel.write(buf, position);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package EcoRevive;
+
+// Fine-grained change notifications from RecyclingManager's recycled inventory.
+// Called on the thread that made the change.
+public interface InventoryListener {
+    void itemAdded(EWasteItem item);
+
+    // A batch appended in one step (startup load, queue processing); defaults to one itemAdded per item
+    default void itemsAdded(java.util.List<EWasteItem> items) {
+        for (EWasteItem item : items) {
+            itemAdded(item);
+        }
+    }
+
+    void itemRemoved(EWasteItem item);
+
+    void itemReplaced(EWasteItem oldItem, EWasteItem newItem);
+
+    // Order or contents changed wholesale (sort, reload); re-read the inventory
+    void inventoryReset();
+}
@@ -1,25 +1,77 @@
 package EcoRevive;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.FileChooser;
+import javafx.util.Duration;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 
 public class InventoryPanel extends VBox {
+    // Searches, filters and sorts run here so the FX thread only ever publishes results.
+    // One thread keeps them in submission order; shared because panels are rebuilt on navigation.
+    private static final ExecutorService BACKGROUND = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "inventory-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(250);
+    // Bigger changes than this (sorts, reloads) re-run the filter instead of patching the results
+    private static final int INCREMENTAL_CHANGE_LIMIT = 64;
+    // Panel name on UI stall events (see UiStalls)
+    private static final String PANEL = "Inventory";
+
     private RecyclingManager manager;
     private FileService fileService;
     private TableView<EWasteItem> inventoryTable;
-
-    public InventoryPanel(RecyclingManager manager, FileService fileService) {
+    // Live inventory, shown directly while no filter is active
+    private ObservableInventory inventory;
+    private ObservableList<EWasteItem> allItems;
+    // Filter results, computed off-thread and then patched from allItems change events
+    private final IndexedRows filteredRows = new IndexedRows(FXCollections.observableArrayList());
+    private final ListChangeListener<EWasteItem> inventoryChanges = this::onInventoryChanged;
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DEBOUNCE);
+    private String searchQuery = "";
+    private String categoryFilter;
+    private Predicate<EWasteItem> activeFilter;
+    // FX-thread only; bumped on every new query so stale background results are dropped
+    private long filterGeneration;
+    private Future<?> pendingFilter;
+    // Inventory changes seen while pendingFilter runs, replayed onto its result when it is shown
+    private final List<RecordedChange> changesWhileFiltering = new ArrayList<>();
+    private Button exportBtn;
+    private ProgressBar exportProgress;
+    private Button cancelExportBtn;
+    private CompletableFuture<Long> exportTask;
+    private final ReadOnlyBooleanProperty loading;
+
+    public InventoryPanel(RecyclingManager manager, FileService fileService, ObservableInventory inventory) {
         this.manager = manager;
         this.fileService = fileService;
+        this.inventory = inventory;
+        this.allItems = inventory.getItems();
+        this.loading = inventory.loadingProperty();
+        // Weak so a discarded panel does not stay subscribed to the long-lived inventory list
+        allItems.addListener(new WeakListChangeListener<>(inventoryChanges));
         initialize();
     }
 
@@ -45,7 +97,7 @@ public class InventoryPanel extends VBox {
         card.getChildren().addAll(searchPanel, inventoryTable, buttonPanel);
         getChildren().add(card);
         
-        updateInventoryTable(manager.getRecycledItems());
+        inventoryTable.setItems(allItems);
     }
 
     private HBox createSearchPanel() {
@@ -56,34 +108,39 @@ public class InventoryPanel extends VBox {
         searchField.setPromptText("Search by name/ID...");
         Button searchBtn = new Button("Search");
         Button clearBtn = new Button("Clear");
+
+        // Search as you type, once the user pauses
+        searchDelay.setOnFinished(UiStalls.watch(PANEL, "Search as you type", e -> {
+            searchQuery = searchField.getText();
+            applyFilters();
+        }));
+        searchField.textProperty().addListener((obs, oldText, newText) -> searchDelay.playFromStart());
         
-        searchBtn.setOnAction(e -> updateInventoryTable(manager.searchItems(searchField.getText())));
+        searchBtn.setOnAction(UiStalls.watch(PANEL, "Search", e -> {
+            searchDelay.stop();
+            searchQuery = searchField.getText();
+            applyFilters();
+        }));
         
         ComboBox<String> categoryFilterBox = new ComboBox<>(FXCollections.observableArrayList(
             "All Categories", Constants.CAT_MOBILE, Constants.CAT_LAPTOP, Constants.CAT_TABLET, 
             Constants.CAT_TV, Constants.CAT_APPLIANCE, Constants.CAT_OTHER
         ));
         categoryFilterBox.setPromptText("Filter Category");
-        categoryFilterBox.setOnAction(e -> {
+        categoryFilterBox.setOnAction(UiStalls.watch(PANEL, "Category filter", e -> {
             String selected = categoryFilterBox.getValue();
-            if (selected == null || selected.equals("All Categories")) {
-                updateInventoryTable(manager.getRecycledItems());
-            } else {
-                MyLinkedList<EWasteItem> filtered = new MyLinkedList<>();
-                for (EWasteItem item : manager.getRecycledItems()) {
-                    if (item.getCategory().equals(selected)) {
-                        filtered.add(item);
-                    }
-                }
-                updateInventoryTable(filtered);
-            }
-        });
+            categoryFilter = (selected == null || selected.equals("All Categories")) ? null : selected;
+            applyFilters();
+        }));
 
-        clearBtn.setOnAction(e -> {
+        clearBtn.setOnAction(UiStalls.watch(PANEL, "Clear filters", e -> {
             searchField.clear();
+            searchDelay.stop();
             categoryFilterBox.setValue(null);
-            updateInventoryTable(manager.getRecycledItems());
-        });
+            searchQuery = "";
+            categoryFilter = null;
+            applyFilters();
+        }));
 
         ComboBox<String> sortBox = new ComboBox<>(FXCollections.observableArrayList(
             "ID", "Weight", "Category", "Name", "Condition"
@@ -125,21 +182,22 @@ public class InventoryPanel extends VBox {
                     if (!ascending) {
                         comparator = comparator.reversed();
                     }
-                    manager.sortItems(comparator);
-                    updateInventoryTable(manager.getRecycledItems());
+                    // The manager announces the new order as a reset, which re-runs any active filter
+                    java.util.Comparator<EWasteItem> order = comparator;
+                    BACKGROUND.submit(() -> manager.sortItems(order));
                 }
             }
         };
 
-        sortBox.setOnAction(sortAction);
-        orderBtn.setOnAction(e -> {
+        sortBox.setOnAction(UiStalls.watch(PANEL, "Sort", sortAction));
+        orderBtn.setOnAction(UiStalls.watch(PANEL, "Sort order", e -> {
             if (orderBtn.getText().equals("Ascending")) {
                 orderBtn.setText("Descending");
             } else {
                 orderBtn.setText("Ascending");
             }
             sortAction.handle(new javafx.event.ActionEvent());
-        });
+        }));
 
         searchPanel.getChildren().addAll(new Label("Filter:"), searchField, searchBtn, clearBtn, sortBox, orderBtn, categoryFilterBox);
         return searchPanel;
@@ -202,39 +260,161 @@ public class InventoryPanel extends VBox {
         
         Button deleteBtn = new Button("Delete Selected");
         Button editBtn = new Button("Edit Selected");
-        Button exportBtn = new Button("Export CSV");
+        exportBtn = new Button("Export CSV");
+        exportProgress = new ProgressBar(0);
+        cancelExportBtn = new Button("Cancel Export");
+        setExporting(false);
         Button refreshBtn = new Button("Refresh");
         Button undoBtn = new Button("Undo Delete");
 
-        deleteBtn.setOnAction(e -> deleteSelectedItem());
-        editBtn.setOnAction(e -> editSelectedItem());
-        exportBtn.setOnAction(e -> exportCSV());
-        refreshBtn.setOnAction(e -> updateInventoryTable(manager.getRecycledItems()));
-        undoBtn.setOnAction(e -> {
+        deleteBtn.setOnAction(UiStalls.watch(PANEL, "Delete", e -> deleteSelectedItem()));
+        editBtn.setOnAction(UiStalls.watch(PANEL, "Edit", e -> editSelectedItem()));
+        exportBtn.setOnAction(UiStalls.watch(PANEL, "Export", e -> exportCSV()));
+        cancelExportBtn.setOnAction(UiStalls.watch(PANEL, "Cancel export", e -> {
+            if (exportTask != null) {
+                exportTask.cancel(true);
+            }
+        }));
+        refreshBtn.setOnAction(UiStalls.watch(PANEL, "Refresh", e -> applyFilters()));
+        // Edits wait for the startup load: the journal is only attached once it has finished
+        deleteBtn.disableProperty().bind(loading);
+        editBtn.disableProperty().bind(loading);
+        undoBtn.disableProperty().bind(loading);
+        undoBtn.setOnAction(UiStalls.watch(PANEL, "Undo delete", e -> {
             if (manager.undoDelete()) {
-                updateInventoryTable(manager.getRecycledItems());
                 showAlert("Success", "Restored last deleted item.");
             } else {
                 showAlert("Info", "Nothing to undo.");
             }
-        });
+        }));
 
-        buttonPanel.getChildren().addAll(deleteBtn, editBtn, exportBtn, refreshBtn, undoBtn);
+        buttonPanel.getChildren().addAll(exportProgress, cancelExportBtn, deleteBtn, editBtn, exportBtn, refreshBtn, undoBtn);
         return buttonPanel;
     }
 
-    private void updateInventoryTable(MyLinkedList<EWasteItem> items) {
-        if (inventoryTable != null) {
-            ObservableList<EWasteItem> list = FXCollections.observableArrayList();
-            for (EWasteItem item : items) {
-                list.add(item);
+    // Start a background query for the current search text and category; any query still
+    // pending is cancelled and its result discarded
+    private void applyFilters() {
+        if (pendingFilter != null) {
+            pendingFilter.cancel(true);
+            pendingFilter = null;
+        }
+        long generation = ++filterGeneration;
+        changesWhileFiltering.clear();
+        String query = searchQuery == null ? "" : searchQuery;
+        String category = categoryFilter;
+
+        if (query.isEmpty() && category == null) {
+            activeFilter = null;
+            filteredRows.clear();
+            inventoryTable.setItems(allItems);
+            return;
+        }
+
+        String lowerQuery = query.toLowerCase();
+        Predicate<EWasteItem> filter = item -> (lowerQuery.isEmpty() || matchesQuery(item, lowerQuery))
+                                           && (category == null || item.getCategory().equals(category));
+        pendingFilter = BACKGROUND.submit(() -> {
+            InventorySnapshot snapshot = manager.snapshot();
+            long copiedVersion = snapshot.getVersion();
+            Iterable<EWasteItem> source = snapshot;
+            if (!query.isEmpty()) {
+                MyLinkedList<EWasteItem> found = manager.searchItems(query);
+                // The index answer is only known to be of this version if nothing was published
+                // meanwhile; otherwise scan the snapshot, so the replay below knows what it holds
+                if (manager.snapshot() == snapshot) {
+                    source = found;
+                }
+            }
+            List<EWasteItem> result = new ArrayList<>();
+            for (EWasteItem item : source) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (filter.test(item)) {
+                    result.add(item);
+                }
+            }
+            Platform.runLater(UiStalls.watch(PANEL, "Show filter results", () -> {
+                if (generation != filterGeneration) {
+                    return; // superseded while running
+                }
+                pendingFilter = null;
+                activeFilter = filter;
+                filteredRows.setAll(result);
+                // Changes that reached the table after the copy was taken are not in it yet
+                for (RecordedChange change : changesWhileFiltering) {
+                    if (change.version > copiedVersion) {
+                        patch(filter, change.removed, change.added);
+                    }
+                }
+                changesWhileFiltering.clear();
+                inventoryTable.setItems(filteredRows.getItems());
+            }));
+        });
+    }
+
+    // Same matching rule as RecyclingManager.searchItems, for patching single items
+    private static boolean matchesQuery(EWasteItem item, String lowerQuery) {
+        return item.getId().toLowerCase().contains(lowerQuery)
+            || item.getName().toLowerCase().contains(lowerQuery)
+            || item.getCategory().toLowerCase().contains(lowerQuery);
+    }
+
+    // Keep filter results in step with the live inventory without re-running the whole query
+    private void onInventoryChanged(ListChangeListener.Change<? extends EWasteItem> change) {
+        Predicate<EWasteItem> filter = activeFilter;
+        if (filter == null && pendingFilter == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()
+                    || change.getRemovedSize() > INCREMENTAL_CHANGE_LIMIT
+                    || change.getAddedSize() > INCREMENTAL_CHANGE_LIMIT) {
+                applyFilters();
+                return;
+            }
+            List<EWasteItem> removed = new ArrayList<>(change.getRemoved());
+            List<EWasteItem> added = new ArrayList<>(change.getAddedSubList());
+            if (pendingFilter != null) {
+                changesWhileFiltering.add(new RecordedChange(inventory.getVersion(), removed, added));
+            }
+            if (filter != null) {
+                patch(filter, removed, added);
+            }
+        }
+    }
+
+    // Removes and adds are skipped when already done, so a reload reported as one change is safe
+    private void patch(Predicate<EWasteItem> filter, List<EWasteItem> removed, List<EWasteItem> added) {
+        if (removed.size() == 1 && added.size() == 1 && filter.test(added.get(0))
+                && filteredRows.replace(removed.get(0), added.get(0))) {
+            return; // edits keep their row
+        }
+        for (EWasteItem item : removed) {
+            filteredRows.remove(item);
+        }
+        for (EWasteItem item : added) {
+            if (filter.test(item) && !filteredRows.contains(item)) {
+                filteredRows.add(item);
             }
-            inventoryTable.setItems(list);
+        }
+    }
+
+    private static final class RecordedChange {
+        final long version;
+        final List<EWasteItem> removed;
+        final List<EWasteItem> added;
+
+        RecordedChange(long version, List<EWasteItem> removed, List<EWasteItem> added) {
+            this.version = version;
+            this.removed = removed;
+            this.added = added;
         }
     }
 
     private void deleteSelectedItem() {
-        EWasteItem selected = inventoryTable.getSelectionModel().getSelectedItem();
+        EWasteItem selected = currentSelection();
         if (selected == null) {
             showAlert("Warning", "Please select an item to delete.");
             return;
@@ -248,16 +428,14 @@ public class InventoryPanel extends VBox {
         }
         styleDialog(alert);
         
-        Optional<ButtonType> result = alert.showAndWait();
+        Optional<ButtonType> result = UiStalls.waitForUser(alert::showAndWait);
         if (result.isPresent() && result.get() == ButtonType.OK) {
-            if (manager.removeItem(selected.getId())) {
-                updateInventoryTable(manager.getRecycledItems());
-            }
+            manager.removeItem(selected.getId());
         }
     }
 
     private void editSelectedItem() {
-        EWasteItem selected = inventoryTable.getSelectionModel().getSelectedItem();
+        EWasteItem selected = currentSelection();
         if (selected == null) {
             showAlert("Warning", "Please select an item to edit.");
             return;
@@ -306,7 +484,6 @@ public class InventoryPanel extends VBox {
             if (dialogButton == saveButtonType) {
                 try {
                     manager.updateItem(selected.getId(), nameField.getText(), categoryBox.getValue(), Double.parseDouble(weightField.getText()), conditionBox.getValue());
-                    updateInventoryTable(manager.getRecycledItems());
                 } catch (NumberFormatException e) {
                     showAlert("Error", "Invalid weight.");
                 }
@@ -314,21 +491,51 @@ public class InventoryPanel extends VBox {
             return null;
         });
 
-        dialog.showAndWait();
+        UiStalls.waitForUser(dialog::showAndWait);
     }
 
+    // Resolve the selected row against the live inventory so edits never start from a stale copy
+    private EWasteItem currentSelection() {
+        EWasteItem selected = inventoryTable.getSelectionModel().getSelectedItem();
+        return selected == null ? null : manager.findById(selected.getId());
+    }
+
+    // Streams the current snapshot in the background; the table stays usable meanwhile
     private void exportCSV() {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Save CSV");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
-        File file = fileChooser.showSaveDialog(getScene().getWindow());
+        fileChooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("CSV Files", "*.csv"),
+            new FileChooser.ExtensionFilter("Compressed CSV Files", "*.csv.gz"));
+        File file = UiStalls.waitForUser(() -> fileChooser.showSaveDialog(getScene().getWindow()));
         
         if (file != null) {
-            fileService.exportToCSV(manager.getRecycledItems(), file.getAbsolutePath());
-            showAlert("Success", "Exported to " + file.getName());
+            setExporting(true);
+            exportTask = fileService.exportToCSVAsync(manager.snapshot(), file.toPath(), (rows, total) ->
+                Platform.runLater(() -> exportProgress.setProgress(
+                    total > 0 ? (double) rows / total : ProgressIndicator.INDETERMINATE_PROGRESS)));
+            exportTask.whenComplete((rows, error) -> Platform.runLater(UiStalls.watch(PANEL, "Export finished", () -> {
+                setExporting(false);
+                if (error instanceof CancellationException) {
+                    showAlert("Info", "Export cancelled.");
+                } else if (error != null) {
+                    showAlert("Error", "Export failed: " + error.getMessage());
+                } else {
+                    showAlert("Success", "Exported " + rows + " items to " + file.getName());
+                }
+            })));
         }
     }
 
+    private void setExporting(boolean exporting) {
+        exportBtn.setDisable(exporting);
+        exportProgress.setProgress(0);
+        exportProgress.setVisible(exporting);
+        exportProgress.setManaged(exporting);
+        cancelExportBtn.setVisible(exporting);
+        cancelExportBtn.setManaged(exporting);
+    }
+
     private void showAlert(String title, String message) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(title);
@@ -338,7 +545,7 @@ public class InventoryPanel extends VBox {
             alert.initOwner(getScene().getWindow());
         }
         styleDialog(alert);
-        alert.showAndWait();
+        UiStalls.waitForUser(alert::showAndWait);
     }
 
     private void styleDialog(Dialog<?> dialog) {
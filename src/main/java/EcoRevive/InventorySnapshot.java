@@ -0,0 +1,72 @@
+package EcoRevive;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Immutable view of the recycled inventory at one point in time, published by RecyclingManager
+// after every change. Reading one never takes a lock and never sees a half-applied change.
+// Removed items stay behind as null slots in the shared vector until it is compacted; they are skipped here.
+public final class InventorySnapshot implements Iterable<EWasteItem> {
+    private final MyPersistentVector<EWasteItem> slots;
+    private final int size;
+    private final long version;
+    private final InventoryStats.Snapshot stats;
+
+    InventorySnapshot(MyPersistentVector<EWasteItem> slots, int size, long version, InventoryStats.Snapshot stats) {
+        this.slots = slots;
+        this.size = size;
+        this.version = version;
+        this.stats = stats;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Increases with every published change
+    public long getVersion() {
+        return version;
+    }
+
+    // Aggregates matching exactly these items
+    public InventoryStats.Snapshot getStats() {
+        return stats;
+    }
+
+    @Override
+    public Iterator<EWasteItem> iterator() {
+        Iterator<EWasteItem> it = slots.iterator();
+        return new Iterator<EWasteItem>() {
+            private EWasteItem next = advance();
+
+            private EWasteItem advance() {
+                while (it.hasNext()) {
+                    EWasteItem item = it.next();
+                    if (item != null) {
+                        return item;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public EWasteItem next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                EWasteItem item = next;
+                next = advance();
+                return item;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package EcoRevive;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+// Running aggregates over the recycled inventory, updated in O(1) per change
+public class InventoryStats {
+    private int totalItems;
+    private double totalWeight;
+    private double weightCompensation; // Neumaier correction so add/remove cycles don't drift
+    private long totalEcoPoints;
+    private final Map<String, Integer> categoryCount = new HashMap<>();
+    private final Map<String, Integer> conditionCount = new HashMap<>();
+    private final EcoPointsTable rules = EcoPointsTable.get();
+
+    public void add(EWasteItem item) {
+        totalItems++;
+        addWeight(item.getWeight());
+        totalEcoPoints += rules.pointsFor(item);
+        increment(categoryCount, item.getCategory(), 1);
+        increment(conditionCount, item.getCondition(), 1);
+    }
+
+    public void remove(EWasteItem item) {
+        totalItems--;
+        addWeight(-item.getWeight());
+        totalEcoPoints -= rules.pointsFor(item);
+        increment(categoryCount, item.getCategory(), -1);
+        increment(conditionCount, item.getCondition(), -1);
+    }
+
+    public void clear() {
+        totalItems = 0;
+        totalWeight = 0;
+        weightCompensation = 0;
+        totalEcoPoints = 0;
+        categoryCount.clear();
+        conditionCount.clear();
+    }
+
+    public int getTotalItems() { return totalItems; }
+    public double getTotalWeight() { return totalItems == 0 ? 0 : totalWeight + weightCompensation; }
+    public int getEcoPoints() { return (int) totalEcoPoints; }
+    public Map<String, Integer> getCategoryCounts() { return Collections.unmodifiableMap(categoryCount); }
+    public Map<String, Integer> getConditionCounts() { return Collections.unmodifiableMap(conditionCount); }
+
+    // Copy of every aggregate at one instant, safe to hand to another thread
+    public Snapshot snapshot() {
+        return new Snapshot(totalItems, getTotalWeight(), getEcoPoints(), getMostCommonCategory(),
+                            new HashMap<>(categoryCount), new HashMap<>(conditionCount));
+    }
+
+    public static final class Snapshot {
+        private final int totalItems;
+        private final double totalWeight;
+        private final int ecoPoints;
+        private final String mostCommonCategory;
+        private final Map<String, Integer> categoryCounts;
+        private final Map<String, Integer> conditionCounts;
+
+        private Snapshot(int totalItems, double totalWeight, int ecoPoints, String mostCommonCategory,
+                         Map<String, Integer> categoryCounts, Map<String, Integer> conditionCounts) {
+            this.totalItems = totalItems;
+            this.totalWeight = totalWeight;
+            this.ecoPoints = ecoPoints;
+            this.mostCommonCategory = mostCommonCategory;
+            this.categoryCounts = Collections.unmodifiableMap(categoryCounts);
+            this.conditionCounts = Collections.unmodifiableMap(conditionCounts);
+        }
+
+        public int getTotalItems() { return totalItems; }
+        public double getTotalWeight() { return totalWeight; }
+        public int getEcoPoints() { return ecoPoints; }
+        public String getMostCommonCategory() { return mostCommonCategory; }
+        public Map<String, Integer> getCategoryCounts() { return categoryCounts; }
+        public Map<String, Integer> getConditionCounts() { return conditionCounts; }
+    }
+
+    // Only walks the distinct categories, not the items
+    public String getMostCommonCategory() {
+        String mostCommonCategory = "N/A";
+        int maxCount = 0;
+        for (Map.Entry<String, Integer> entry : categoryCount.entrySet()) {
+            if (entry.getValue() > maxCount) {
+                maxCount = entry.getValue();
+                mostCommonCategory = entry.getKey();
+            }
+        }
+        return mostCommonCategory;
+    }
+
+    private void addWeight(double value) {
+        double sum = totalWeight + value;
+        if (Math.abs(totalWeight) >= Math.abs(value)) {
+            weightCompensation += (totalWeight - sum) + value;
+        } else {
+            weightCompensation += (value - sum) + totalWeight;
+        }
+        totalWeight = sum;
+    }
+
+    private static void increment(Map<String, Integer> counts, String key, int delta) {
+        int updated = counts.getOrDefault(key, 0) + delta;
+        if (updated == 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, updated);
+        }
+    }
+}
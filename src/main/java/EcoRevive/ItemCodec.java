@@ -0,0 +1,78 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Binary record layout shared by every on-disk structure:
+// [u16 len][id][u16 len][name][u16 len][category][f64 weight][u16 len][condition]
+public final class ItemCodec {
+    public static final int MAX_FIELD_BYTES = 0xFFFF;
+    public static final int MAX_RECORD_BYTES = 4 * (2 + MAX_FIELD_BYTES) + 8;
+
+    private ItemCodec() {
+    }
+
+    // Pre-encoded record, so the caller can size its buffer before writing
+    public static final class Encoded {
+        private final byte[] id;
+        private final byte[] name;
+        private final byte[] category;
+        private final double weight;
+        private final byte[] condition;
+
+        private Encoded(byte[] id, byte[] name, byte[] category, double weight, byte[] condition) {
+            this.id = id;
+            this.name = name;
+            this.category = category;
+            this.weight = weight;
+            this.condition = condition;
+        }
+
+        public int size() {
+            return 8 + 8 + id.length + name.length + category.length + condition.length;
+        }
+
+        public void writeTo(ByteBuffer buf) {
+            putField(buf, id);
+            putField(buf, name);
+            putField(buf, category);
+            buf.putDouble(weight);
+            putField(buf, condition);
+        }
+    }
+
+    public static Encoded encode(EWasteItem item) throws IOException {
+        return new Encoded(field(item.getId()), field(item.getName()), field(item.getCategory()),
+                           item.getWeight(), field(item.getCondition()));
+    }
+
+    // scratch must hold MAX_FIELD_BYTES; it is reused to avoid a copy per field
+    public static EWasteItem read(ByteBuffer buf, byte[] scratch) {
+        String id = getField(buf, scratch);
+        String name = getField(buf, scratch);
+        String category = getField(buf, scratch);
+        double weight = buf.getDouble();
+        String condition = getField(buf, scratch);
+        return new EWasteItem(id, name, category, weight, condition);
+    }
+
+    private static byte[] field(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_FIELD_BYTES) {
+            throw new IOException("Field longer than " + MAX_FIELD_BYTES + " bytes: " + value.substring(0, 32) + "...");
+        }
+        return bytes;
+    }
+
+    private static void putField(ByteBuffer buf, byte[] bytes) {
+        buf.putShort((short) bytes.length);
+        buf.put(bytes);
+    }
+
+    private static String getField(ByteBuffer buf, byte[] scratch) {
+        int length = Short.toUnsignedInt(buf.getShort());
+        buf.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
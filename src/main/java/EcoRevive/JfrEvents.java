@@ -0,0 +1,161 @@
+package EcoRevive;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+// Flight Recorder events for inventory operations and UI stalls. Each operation does
+//   event.begin(); ...work...; event.complete(fields)
+// complete() ends the event and only fills in and commits it when a recording wants it, so with
+// JFR off the cost is a cheap enabled check. Record with e.g.
+//   java -XX:StartFlightRecording=filename=ecorevive.jfr,settings=profile -jar ...
+final class JfrEvents {
+    private JfrEvents() {
+    }
+
+    @Name("EcoRevive.Mutation")
+    @Label("Inventory Mutation")
+    @Category({ "EcoRevive", "Inventory" })
+    @Description("Change to the recycled inventory: remove, update, undo, restore, replace or load")
+    @StackTrace(false)
+    static final class Mutation extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Item ID")
+        String itemId;
+        @Label("Items")
+        int items;
+        @Label("Inventory Size")
+        int inventorySize;
+
+        void complete(String operation, String itemId, int items, int inventorySize) {
+            end();
+            if (shouldCommit()) {
+                this.operation = operation;
+                this.itemId = itemId;
+                this.items = items;
+                this.inventorySize = inventorySize;
+                commit();
+            }
+        }
+    }
+
+    @Name("EcoRevive.Search")
+    @Label("Inventory Search")
+    @Category({ "EcoRevive", "Inventory" })
+    @StackTrace(false)
+    static final class Search extends Event {
+        @Label("Query")
+        String query;
+        @Label("Matches")
+        int matches;
+        @Label("Inventory Size")
+        int inventorySize;
+
+        void complete(String query, int matches, int inventorySize) {
+            end();
+            if (shouldCommit()) {
+                this.query = query;
+                this.matches = matches;
+                this.inventorySize = inventorySize;
+                commit();
+            }
+        }
+    }
+
+    @Name("EcoRevive.Sort")
+    @Label("Inventory Sort")
+    @Category({ "EcoRevive", "Inventory" })
+    @StackTrace(false)
+    static final class Sort extends Event {
+        @Label("Items")
+        int items;
+        @Label("Parallel")
+        boolean parallel;
+
+        void complete(int items, boolean parallel) {
+            end();
+            if (shouldCommit()) {
+                this.items = items;
+                this.parallel = parallel;
+                commit();
+            }
+        }
+    }
+
+    @Name("EcoRevive.QueueProcess")
+    @Label("Queue Processing")
+    @Category({ "EcoRevive", "Inventory" })
+    @StackTrace(false)
+    static final class QueueProcess extends Event {
+        @Label("Processed")
+        int processed;
+        @Label("Still Pending")
+        int pending;
+
+        void complete(int processed, int pending) {
+            end();
+            if (shouldCommit()) {
+                this.processed = processed;
+                this.pending = pending;
+                commit();
+            }
+        }
+    }
+
+    @Name("EcoRevive.FileIO")
+    @Label("Inventory File I/O")
+    @Category({ "EcoRevive", "File" })
+    @Description("Snapshot load/save, CSV export and CSV import")
+    @StackTrace(false)
+    static final class FileIo extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Path")
+        String path;
+        @Label("Items")
+        long items;
+        @Label("Size")
+        @DataAmount
+        long bytes;
+
+        void complete(String operation, Object path, long items, long bytes) {
+            end();
+            if (shouldCommit()) {
+                this.operation = operation;
+                this.path = String.valueOf(path);
+                this.items = items;
+                this.bytes = bytes;
+                commit();
+            }
+        }
+    }
+
+    // Only kept when the handler blocked the FX thread longer than the threshold; override it with
+    // a JFR setting such as EcoRevive.UiStall#threshold=50 ms
+    @Name("EcoRevive.UiStall")
+    @Label("UI Stall")
+    @Category({ "EcoRevive", "UI" })
+    @Description("An FX event handler that ran long enough to freeze the window")
+    @Threshold("100 ms")
+    static final class UiStall extends Event {
+        @Label("Panel")
+        String panel;
+        @Label("Action")
+        String action;
+
+        void complete(String panel, String action) {
+            end();
+            if (shouldCommit()) {
+                this.panel = panel;
+                this.action = action;
+                commit();
+            }
+        }
+    }
+}
@@ -2,6 +2,14 @@ package EcoRevive;
 
 public class Launcher {
     public static void main(String[] args) {
+        // Batch commands run headless; JavaFX is only touched when the GUI is launched
+        if (args.length > 0 && HeadlessCli.isCommand(args[0])) {
+            System.exit(HeadlessCli.run(args));
+        }
+        launchGui(args);
+    }
+
+    private static void launchGui(String[] args) {
         EcoReviveFX.main(args);
     }
 }
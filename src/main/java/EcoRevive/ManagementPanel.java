@@ -1,12 +1,18 @@
 package EcoRevive;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
+import java.io.File;
 
 public class ManagementPanel extends SplitPane {
+    // Panel name on UI stall events (see UiStalls)
+    private static final String PANEL = "Management";
+
     private RecyclingManager manager;
     private TextArea logArea;
     private Label pendingCountLabel;
@@ -73,7 +79,7 @@ public class ManagementPanel extends SplitPane {
 
         Button submitBtn = new Button("Submit Item");
         submitBtn.setMaxWidth(Double.MAX_VALUE);
-        submitBtn.setOnAction(e -> {
+        submitBtn.setOnAction(UiStalls.watch(PANEL, "Submit item", e -> {
             try {
                 String name = nameField.getText();
                 String category = categoryBox.getValue();
@@ -105,7 +111,7 @@ public class ManagementPanel extends SplitPane {
             } catch (NumberFormatException ex) {
                 showAlert("Error", "Invalid weight format.");
             }
-        });
+        }));
 
         grid.add(submitBtn, 1, 4);
         
@@ -132,20 +138,35 @@ public class ManagementPanel extends SplitPane {
         pendingCountLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #E0E0E0;");
         
         Button processBtn = new Button("Process Pending");
-        processBtn.setOnAction(e -> {
-            MyLinkedList<EWasteItem> processed = manager.processQueue();
-            if (processed.isEmpty()) {
+        processBtn.setOnAction(UiStalls.watch(PANEL, "Process pending", e -> {
+            if (manager.getPendingItems().isEmpty()) {
                 showAlert("Info", "No items to process.");
-            } else {
-                for (EWasteItem item : processed) {
-                    if (logArea != null) logArea.appendText("Processed: " + item + "\n");
+                return;
+            }
+            processBtn.setDisable(true);
+            // Batches arrive on the FX thread (the manager's apply executor), one at a time
+            manager.processQueueAsync((batch, processedSoFar, remaining) -> {
+                StringBuilder log = new StringBuilder();
+                for (EWasteItem item : batch) {
+                    log.append("Processed: ").append(item).append('\n');
                 }
+                if (logArea != null) logArea.appendText(log.toString());
+                pendingCountLabel.setText("Pending Items: " + remaining + " (processed " + processedSoFar + ")");
+            }).whenComplete((total, error) -> Platform.runLater(UiStalls.watch(PANEL, "Processing finished", () -> {
+                processBtn.setDisable(false);
                 updatePendingCount();
-                showAlert("Success", "Processed " + processed.size() + " items.");
-            }
-        });
+                if (error != null) {
+                    showAlert("Error", "Processing failed: " + error.getMessage());
+                } else {
+                    showAlert("Success", "Processed " + total + " items.");
+                }
+            })));
+        }));
+
+        Button importBtn = new Button("Import CSV...");
+        importBtn.setOnAction(UiStalls.watch(PANEL, "Import CSV", e -> importCSV(importBtn)));
 
-        top.getChildren().addAll(pendingCountLabel, processBtn);
+        top.getChildren().addAll(pendingCountLabel, processBtn, importBtn);
 
         logArea = new TextArea();
         logArea.setEditable(false);
@@ -157,6 +178,34 @@ public class ManagementPanel extends SplitPane {
         return panel;
     }
 
+    // Bulk intake: rows are validated and queued in the background, then processed as usual
+    private void importCSV(Button importBtn) {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Import CSV");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+        File file = UiStalls.waitForUser(() -> fileChooser.showOpenDialog(getScene().getWindow()));
+        if (file == null) {
+            return;
+        }
+
+        importBtn.setDisable(true);
+        if (logArea != null) logArea.appendText("Importing " + file.getName() + "...\n");
+        new BulkImporter(manager).importAsync(file.toPath()).whenComplete((report, error) -> Platform.runLater(UiStalls.watch(PANEL, "Import finished", () -> {
+            importBtn.setDisable(false);
+            updatePendingCount();
+            if (error != null) {
+                showAlert("Error", "Import failed: " + error.getMessage());
+                return;
+            }
+            if (logArea != null) logArea.appendText(report + "\n");
+            if (report.getRejectedFile() != null) {
+                showAlert("Import Finished", report + "\nRejected rows were written to " + report.getRejectedFile().getFileName());
+            } else {
+                showAlert("Success", report.toString());
+            }
+        })));
+    }
+
     private void updatePendingCount() {
         if (pendingCountLabel != null) {
             pendingCountLabel.setText("Pending Items: " + manager.getPendingItems().size());
@@ -181,6 +230,6 @@ public class ManagementPanel extends SplitPane {
         // Note: Accessing the main scene to check theme might be tricky here without passing parent.
         // For now, we'll rely on the stylesheet. In a more complex app, we might pass a ThemeManager or similar.
         
-        alert.showAndWait();
+        UiStalls.waitForUser(alert::showAndWait);
     }
 }
@@ -0,0 +1,216 @@
+package EcoRevive;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+// Process-wide metrics: counters, gauges and latency histograms, looked up by name once and
+// kept in static fields by the instrumented classes so the hot path never touches the maps.
+// Exposed over JMX as EcoRevive:type=Metrics and as a periodic text dump.
+public final class Metrics {
+    public static final String JMX_NAME = "EcoRevive:type=Metrics";
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentSkipListMap<>();
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentSkipListMap<>();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private static ScheduledExecutorService reporter;
+    private static boolean jmxRegistered;
+
+    private Metrics() {
+    }
+
+    public static LongAdder counter(String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    public static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    // Read on demand; registering the same name again replaces the previous supplier
+    public static void gauge(String name, LongSupplier value) {
+        GAUGES.put(name, value);
+    }
+
+    // One line per metric, sorted by name; latencies in microseconds
+    public static String dump() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, LongAdder> entry : COUNTERS.entrySet()) {
+            out.append(entry.getKey()).append(" count=").append(entry.getValue().sum()).append('\n');
+        }
+        for (Map.Entry<String, LongSupplier> entry : GAUGES.entrySet()) {
+            out.append(entry.getKey()).append(" value=").append(entry.getValue().getAsLong()).append('\n');
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : HISTOGRAMS.entrySet()) {
+            LatencyHistogram.Snapshot snapshot = entry.getValue().snapshot();
+            out.append(entry.getKey()).append(" count=").append(snapshot.getCount());
+            out.append(String.format(" mean=%.1fus", snapshot.getMeanNanos() / 1e3));
+            for (double percentile : PERCENTILES) {
+                out.append(String.format(" p%s=%.1fus", percentileLabel(percentile),
+                                         snapshot.getPercentileNanos(percentile) / 1e3));
+            }
+            out.append(String.format(" max=%.1fus", snapshot.getMaxNanos() / 1e3)).append('\n');
+        }
+        return out.toString();
+    }
+
+    // For long-running processes (GUI, "serve"): JMX plus the console dump at the configured interval
+    public static void startReporting() {
+        registerJmx();
+        startReporting(Long.getLong(Constants.METRICS_INTERVAL_PROPERTY, Constants.METRICS_DEFAULT_INTERVAL_SECONDS));
+    }
+
+    // Print dump() every intervalSeconds on a daemon thread (0 or less: never); later calls are ignored
+    public static synchronized void startReporting(long intervalSeconds) {
+        if (reporter != null || intervalSeconds <= 0) {
+            return;
+        }
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> System.out.print("--- Metrics ---\n" + dump()),
+                                     intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    // Register the JMX view once; failures are reported and otherwise ignored
+    public static synchronized void registerJmx() {
+        if (jmxRegistered) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(new Jmx(), new ObjectName(JMX_NAME));
+            jmxRegistered = true;
+        } catch (JMException e) {
+            System.err.println("Error registering metrics MBean: " + e.getMessage());
+        }
+    }
+
+    private static String percentileLabel(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    // Attributes are built from the registry on every read, so metrics created later show up too.
+    // Counters and gauges are Long; each histogram contributes <name>.count, .meanMicros,
+    // .p50Micros ... .p99.9Micros and .maxMicros.
+    private static final class Jmx implements DynamicMBean {
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            LongAdder counter = COUNTERS.get(attribute);
+            if (counter != null) {
+                return counter.sum();
+            }
+            LongSupplier gauge = GAUGES.get(attribute);
+            if (gauge != null) {
+                return gauge.getAsLong();
+            }
+            for (Map.Entry<String, LatencyHistogram> entry : HISTOGRAMS.entrySet()) {
+                String prefix = entry.getKey() + ".";
+                if (attribute.startsWith(prefix)) {
+                    Object value = histogramAttribute(entry.getValue().snapshot(), attribute.substring(prefix.length()));
+                    if (value != null) {
+                        return value;
+                    }
+                }
+            }
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        private static Object histogramAttribute(LatencyHistogram.Snapshot snapshot, String field) {
+            if (field.equals("count")) {
+                return snapshot.getCount();
+            }
+            if (field.equals("meanMicros")) {
+                return snapshot.getMeanNanos() / 1e3;
+            }
+            if (field.equals("maxMicros")) {
+                return snapshot.getMaxNanos() / 1e3;
+            }
+            for (double percentile : PERCENTILES) {
+                if (field.equals("p" + percentileLabel(percentile) + "Micros")) {
+                    return snapshot.getPercentileNanos(percentile) / 1e3;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                try {
+                    list.add(new Attribute(attribute, getAttribute(attribute)));
+                } catch (AttributeNotFoundException e) {
+                    // Skipped, as the DynamicMBean contract allows
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        // No operations are exposed; JMX clients get the protocol's own "no such operation" error
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature)
+                throws MBeanException, ReflectionException {
+            throw new ReflectionException(new NoSuchMethodException(actionName),
+                                          "Metrics has no operation " + actionName);
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            for (String name : COUNTERS.keySet()) {
+                attributes.add(attribute(name, Long.class, "Counter"));
+            }
+            for (String name : GAUGES.keySet()) {
+                attributes.add(attribute(name, Long.class, "Gauge"));
+            }
+            for (String name : HISTOGRAMS.keySet()) {
+                attributes.add(attribute(name + ".count", Long.class, "Recorded operations"));
+                attributes.add(attribute(name + ".meanMicros", Double.class, "Mean latency (us)"));
+                for (double percentile : PERCENTILES) {
+                    String label = percentileLabel(percentile);
+                    attributes.add(attribute(name + ".p" + label + "Micros", Double.class, "p" + label + " latency (us)"));
+                }
+                attributes.add(attribute(name + ".maxMicros", Double.class, "Max latency (us)"));
+            }
+            return new MBeanInfo(Metrics.class.getName(), "EcoRevive operation metrics",
+                                 attributes.toArray(new MBeanAttributeInfo[0]), null, null, null);
+        }
+
+        private static MBeanAttributeInfo attribute(String name, Class<?> type, String description) {
+            return new MBeanAttributeInfo(name, type.getName(), description, true, false, false);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package EcoRevive;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Lock-free multi-producer, single-consumer linked queue (Vyukov style).
+// Producers swap themselves in as the tail with one CAS-class operation and never
+// block each other; only one thread may dequeue at a time. An item can carry a sequence number
+// stamped by its producer, which the consumer reads back after dequeueing it.
+public class MyConcurrentQueue<T> implements Iterable<T> {
+    private static final class QNode<T> {
+        T data;
+        final long sequence;
+        volatile QNode<T> next;
+
+        QNode(T data, long sequence) {
+            this.data = data;
+            this.sequence = sequence;
+        }
+    }
+
+    // head is a consumed stub owned by the consumer; tail is shared by producers
+    private QNode<T> head;
+    private final AtomicReference<QNode<T>> tail;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public MyConcurrentQueue() {
+        QNode<T> stub = new QNode<>(null, 0);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    public void add(T data) {
+        enqueue(data);
+    }
+
+    // Safe to call from any number of threads
+    public void enqueue(T data) {
+        enqueue(data, 0);
+    }
+
+    public void enqueue(T data, long sequence) {
+        QNode<T> node = new QNode<>(data, sequence);
+        QNode<T> previous = tail.getAndSet(node);
+        previous.next = node;
+        // Counted only once linked, so size never exceeds what the consumer can reach. The
+        // consumer may take the item first, so the counter can briefly dip below zero.
+        size.incrementAndGet();
+    }
+
+    public T poll() {
+        return dequeue();
+    }
+
+    // Consumer thread only
+    public T dequeue() {
+        QNode<T> next = awaitNext();
+        if (next == null) return null;
+        T data = next.data;
+        next.data = null;
+        head = next;
+        size.decrementAndGet();
+        return data;
+    }
+
+    // Consumer thread only: sequence of the item the last dequeue returned
+    public long lastSequence() {
+        return head.sequence;
+    }
+
+    // Consumer thread only
+    public T peek() {
+        QNode<T> next = awaitNext();
+        return next == null ? null : next.data;
+    }
+
+    public boolean isEmpty() {
+        return size.get() <= 0;
+    }
+
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    // A producer may have swapped the tail but not linked its node yet; wait out that short window
+    private QNode<T> awaitNext() {
+        QNode<T> next = head.next;
+        if (next == null) {
+            if (tail.get() == head) return null;
+            while ((next = head.next) == null) {
+                Thread.onSpinWait();
+            }
+        }
+        return next;
+    }
+
+    // Weakly consistent: sees items enqueued before the call, may miss ones consumed meanwhile
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private QNode<T> current = advance(head.next);
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                T data = current.data;
+                current = advance(current.next);
+                return data;
+            }
+
+            private QNode<T> advance(QNode<T> node) {
+                while (node != null && node.data == null) {
+                    node = node.next;
+                }
+                return node;
+            }
+        };
+    }
+}
@@ -3,8 +3,13 @@ package EcoRevive;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 public class MyLinkedList<T> implements Iterable<T> {
+    // Below this many nodes a fork/join split costs more than it saves
+    private static final int SEQUENTIAL_SORT_CUTOFF = 8192;
+
     private Node<T> head;
     private Node<T> tail;
     private int size;
@@ -16,33 +21,43 @@ public class MyLinkedList<T> implements Iterable<T> {
     }
 
     public void add(T data) {
+        addNode(data);
+    }
+
+    // Append and hand back the node so callers can keep a direct reference to it
+    public Node<T> addNode(T data) {
         Node<T> newNode = new Node<>(data);
         if (head == null) {
             head = newNode;
             tail = newNode;
         } else {
+            newNode.prev = tail;
             tail.next = newNode;
             tail = newNode;
         }
         size++;
+        return newNode;
     }
 
-    public boolean remove(T data) {
-        if (head == null) return false;
-
-        if (head.data.equals(data)) {
-            head = head.next;
-            if (head == null) tail = null;
-            size--;
-            return true;
+    // Move every node of other to the end of this list in O(1); other is left empty
+    public void appendAll(MyLinkedList<T> other) {
+        if (other == this || other.head == null) return;
+        if (head == null) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+            other.head.prev = tail;
         }
+        tail = other.tail;
+        size += other.size;
+        other.clear();
+    }
 
+    public boolean remove(T data) {
         Node<T> current = head;
-        while (current.next != null) {
-            if (current.next.data.equals(data)) {
-                current.next = current.next.next;
-                if (current.next == null) tail = current;
-                size--;
+        while (current != null) {
+            if (current.data.equals(data)) {
+                unlink(current);
                 return true;
             }
             current = current.next;
@@ -50,6 +65,27 @@ public class MyLinkedList<T> implements Iterable<T> {
         return false;
     }
 
+    // O(1) removal of a node that belongs to this list
+    public void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.next = null;
+        node.prev = null;
+        size--;
+    }
+
+    public Node<T> firstNode() {
+        return head;
+    }
+
     public T get(int index) {
         if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
         Node<T> current = head;
@@ -82,24 +118,124 @@ public class MyLinkedList<T> implements Iterable<T> {
         size = 0;
     }
 
-    // Custom Bubble Sort for ADT requirement
+    // Stable merge sort that relinks nodes instead of swapping payloads (O(n log n))
     public void sort(Comparator<T> comparator) {
         if (size <= 1) return;
+        head = mergeSort(head, size, comparator);
+        relink();
+    }
 
-        boolean swapped;
-        do {
-            swapped = false;
-            Node<T> current = head;
-            while (current != null && current.next != null) {
-                if (comparator.compare(current.data, current.next.data) > 0) {
-                    T temp = current.data;
-                    current.data = current.next.data;
-                    current.next.data = temp;
-                    swapped = true;
-                }
-                current = current.next;
+    // Parallel merge sort on the common fork/join pool, meant for large lists
+    public void parallelSort(Comparator<T> comparator) {
+        if (size <= SEQUENTIAL_SORT_CUTOFF) {
+            sort(comparator);
+            return;
+        }
+        head = ForkJoinPool.commonPool().invoke(new SortTask<>(head, size, comparator));
+        relink();
+    }
+
+    // Re-chain this list's nodes in the given order (each one exactly once) in O(n)
+    public void reorder(Node<T>[] nodes) {
+        if (nodes.length != size) throw new IllegalArgumentException("Expected " + size + " nodes, got " + nodes.length);
+        if (size == 0) return;
+        for (int i = 0; i + 1 < nodes.length; i++) {
+            nodes[i].next = nodes[i + 1];
+        }
+        nodes[nodes.length - 1].next = null;
+        head = nodes[0];
+        relink();
+    }
+
+    // Merging only maintains next pointers, so restore prev links and the tail afterwards
+    private void relink() {
+        Node<T> previous = null;
+        Node<T> current = head;
+        while (current != null) {
+            current.prev = previous;
+            previous = current;
+            current = current.next;
+        }
+        tail = previous;
+    }
+
+    // Bottom-up merge: runs of width 1, 2, 4, ... so no recursion or extra arrays are needed
+    private static <T> Node<T> mergeSort(Node<T> first, int length, Comparator<T> comparator) {
+        Node<T> dummy = new Node<>(null);
+        dummy.next = first;
+        for (int width = 1; width < length; width <<= 1) {
+            Node<T> merged = dummy;
+            Node<T> current = dummy.next;
+            while (current != null) {
+                Node<T> left = current;
+                Node<T> right = split(left, width);
+                current = split(right, width);
+                merged = merge(left, right, comparator, merged);
+            }
+        }
+        return dummy.next;
+    }
+
+    // Cut the chain after n nodes and return the remainder
+    private static <T> Node<T> split(Node<T> start, int n) {
+        for (int i = 1; start != null && i < n; i++) {
+            start = start.next;
+        }
+        if (start == null) return null;
+        Node<T> rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
+    // Append the merge of two sorted chains after 'tail' and return the new last node.
+    // Ties take the left node first, which keeps the sort stable.
+    private static <T> Node<T> merge(Node<T> left, Node<T> right, Comparator<T> comparator, Node<T> tail) {
+        while (left != null && right != null) {
+            if (comparator.compare(left.data, right.data) <= 0) {
+                tail.next = left;
+                left = left.next;
+            } else {
+                tail.next = right;
+                right = right.next;
+            }
+            tail = tail.next;
+        }
+        tail.next = (left != null) ? left : right;
+        while (tail.next != null) {
+            tail = tail.next;
+        }
+        return tail;
+    }
+
+    private static class SortTask<T> extends RecursiveTask<Node<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Node<T> first;
+        private final int length;
+        private final transient Comparator<T> comparator;
+
+        SortTask(Node<T> first, int length, Comparator<T> comparator) {
+            this.first = first;
+            this.length = length;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected Node<T> compute() {
+            if (length <= SEQUENTIAL_SORT_CUTOFF) {
+                return mergeSort(first, length, comparator);
             }
-        } while (swapped);
+            int half = length / 2;
+            Node<T> second = split(first, half);
+            SortTask<T> leftTask = new SortTask<>(first, half, comparator);
+            leftTask.fork();
+            Node<T> right = new SortTask<>(second, length - half, comparator).compute();
+            Node<T> left = leftTask.join();
+
+            Node<T> dummy = new Node<>(null);
+            merge(left, right, comparator, dummy);
+            return dummy.next;
+        }
     }
 
     @Override
@@ -0,0 +1,194 @@
+package EcoRevive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// Immutable vector: a 32-way trie plus a tail leaf (the layout of Clojure's PersistentVector).
+// append and set copy only the path to the changed leaf, so every older version stays valid
+// and shares the rest of its structure with the new one. Safe to read from any thread.
+public final class MyPersistentVector<T> implements Iterable<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final MyPersistentVector<?> EMPTY =
+        new MyPersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int size;
+    private final int shift; // bit offset of the root level; leaves sit at level 0
+    private final Object[] root;
+    private final Object[] tail; // last 1..32 elements, kept out of the trie so appends are cheap
+
+    private MyPersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> MyPersistentVector<T> empty() {
+        return (MyPersistentVector<T>) EMPTY;
+    }
+
+    // Bulk build in O(n), without creating the intermediate versions
+    public static <T> MyPersistentVector<T> of(Iterable<? extends T> items) {
+        List<Object[]> level = new ArrayList<>();
+        Object[] leaf = new Object[WIDTH];
+        int fill = 0;
+        int size = 0;
+        for (T item : items) {
+            if (fill == WIDTH) {
+                level.add(leaf);
+                leaf = new Object[WIDTH];
+                fill = 0;
+            }
+            leaf[fill++] = item;
+            size++;
+        }
+        if (size == 0) {
+            return empty();
+        }
+
+        int shift = BITS;
+        while (level.size() > WIDTH) {
+            List<Object[]> parents = new ArrayList<>((level.size() + MASK) / WIDTH);
+            for (int i = 0; i < level.size(); i += WIDTH) {
+                Object[] parent = new Object[WIDTH];
+                for (int j = 0; j < WIDTH && i + j < level.size(); j++) {
+                    parent[j] = level.get(i + j);
+                }
+                parents.add(parent);
+            }
+            level = parents;
+            shift += BITS;
+        }
+        Object[] root = new Object[WIDTH];
+        for (int j = 0; j < level.size(); j++) {
+            root[j] = level.get(j);
+        }
+        return new MyPersistentVector<>(size, shift, root, Arrays.copyOf(leaf, fill));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    public MyPersistentVector<T> append(T value) {
+        if (tail.length < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new MyPersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // Tail is full: push it into the trie, growing a level when the root is full
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new MyPersistentVector<>(size + 1, newShift, newRoot, new Object[] { value });
+    }
+
+    public MyPersistentVector<T> set(int index, T value) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new MyPersistentVector<>(size, shift, root, newTail);
+        }
+        return new MyPersistentVector<>(size, shift, setPath(shift, root, index, value), tail);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                // Leaves (and the tail) start on multiples of 32, so look one up per 32 elements
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        if (level == BITS) {
+            copy[subIndex] = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            copy[subIndex] = child != null
+                ? pushTail(level - BITS, child, tailNode)
+                : newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    private static Object[] setPath(int level, Object[] node, int index, Object value) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            copy[subIndex] = setPath(level - BITS, (Object[]) node[subIndex], index, value);
+        }
+        return copy;
+    }
+}
@@ -3,9 +3,11 @@ package EcoRevive;
 public class Node<T> {
     public T data;
     public Node<T> next;
+    public Node<T> prev;
 
     public Node(T data) {
         this.data = data;
         this.next = null;
+        this.prev = null;
     }
 }
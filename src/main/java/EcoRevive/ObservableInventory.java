@@ -0,0 +1,107 @@
+package EcoRevive;
+
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+// Long-lived observable mirror of the recycled inventory for TableView binding.
+// Manager changes are applied as single add/remove/replace operations, so a delete
+// touches one row instead of rebuilding the whole table. Each change is tagged with the
+// snapshot version it produced; changes already contained in the snapshot the rows were
+// last reloaded from are dropped, so a reload never shows an item twice.
+public final class ObservableInventory implements InventoryListener {
+    private final RecyclingManager manager;
+    private final IndexedRows rows = new IndexedRows(FXCollections.observableArrayList());
+    // True while the startup load is still appending chunks; editing controls bind to it
+    private final BooleanProperty loading = new SimpleBooleanProperty(false);
+    // FX thread only: version of the snapshot last reloaded from, and of the last change shown
+    private long shownVersion = -1;
+    private long version = -1;
+
+    public ObservableInventory(RecyclingManager manager) {
+        this.manager = manager;
+        // Listen first: whatever happens before the reload is dropped by version
+        manager.addInventoryListener(this);
+        reload();
+    }
+
+    public ObservableList<EWasteItem> getItems() {
+        return rows.getItems();
+    }
+
+    // FX thread only: snapshot version the rows currently reflect. Read from a list listener, it is
+    // the version the change being reported produced.
+    public long getVersion() {
+        return version;
+    }
+
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading;
+    }
+
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    // FX thread only
+    public void setLoading(boolean value) {
+        loading.set(value);
+    }
+
+    @Override
+    public void itemAdded(EWasteItem item) {
+        onFxThread(() -> rows.add(item));
+    }
+
+    @Override
+    public void itemsAdded(java.util.List<EWasteItem> added) {
+        onFxThread(() -> rows.addAll(added));
+    }
+
+    @Override
+    public void itemRemoved(EWasteItem item) {
+        onFxThread(() -> rows.remove(item));
+    }
+
+    @Override
+    public void itemReplaced(EWasteItem oldItem, EWasteItem newItem) {
+        // Not shown (yet): the reload or add that brings it in carries the new item
+        onFxThread(() -> rows.replace(oldItem, newItem));
+    }
+
+    @Override
+    public void inventoryReset() {
+        onFxThread(this::reload);
+    }
+
+    private void reload() {
+        InventorySnapshot snapshot = manager.snapshot();
+        java.util.List<EWasteItem> copy = new java.util.ArrayList<>(snapshot.size());
+        for (EWasteItem item : snapshot) {
+            copy.add(item);
+        }
+        shownVersion = snapshot.getVersion();
+        version = shownVersion;
+        rows.setAll(copy);
+    }
+
+    // Listeners run on the changing thread right after the change was published, so the manager's
+    // current version is the one this change produced
+    private void onFxThread(Runnable change) {
+        long changeVersion = manager.snapshot().getVersion();
+        Runnable apply = () -> {
+            if (changeVersion > shownVersion) {
+                version = Math.max(version, changeVersion);
+                change.run();
+            }
+        };
+        if (Platform.isFxApplicationThread()) {
+            apply.run();
+        } else {
+            Platform.runLater(apply);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package EcoRevive;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// Drains the pending queue in batches from a virtual thread and publishes each batch.
+// Batches are applied on the apply executor (the FX thread in the GUI), one at a time,
+// so a large backlog never holds that thread for longer than a single batch.
+public class QueueProcessor {
+    public interface BatchListener {
+        // Called on the apply executor right after a batch has moved into the inventory
+        void onBatch(MyLinkedList<EWasteItem> batch, int processedSoFar, int remaining);
+    }
+
+    private static class Run {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        final List<BatchListener> listeners = new CopyOnWriteArrayList<>();
+    }
+
+    private final RecyclingManager manager;
+    private final Object capacity = new Object();
+    private volatile Executor applyExecutor = Runnable::run;
+    private volatile int batchSize = Constants.QUEUE_BATCH_SIZE;
+    private volatile int highWaterMark = Constants.QUEUE_HIGH_WATER_MARK;
+    private Run active;
+
+    QueueProcessor(RecyclingManager manager) {
+        this.manager = manager;
+    }
+
+    public void setApplyExecutor(Executor applyExecutor) {
+        this.applyExecutor = applyExecutor;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void setHighWaterMark(int highWaterMark) {
+        this.highWaterMark = Math.max(1, highWaterMark);
+    }
+
+    public synchronized boolean isRunning() {
+        return active != null;
+    }
+
+    // Starts draining unless a drain is already running, in which case the listener joins that one.
+    // The future completes with the number of items processed by the run.
+    public synchronized CompletableFuture<Integer> start(BatchListener listener) {
+        if (active == null) {
+            Run run = new Run();
+            active = run;
+            Thread.ofVirtual().name("queue-processor").start(() -> drain(run));
+        }
+        if (listener != null) {
+            active.listeners.add(listener);
+        }
+        return active.future;
+    }
+
+    // Processes at most maxItems the same way a drain does, batch by batch on the apply executor,
+    // then stops. Completes with the number processed; may run alongside a drain.
+    public CompletableFuture<Integer> process(int maxItems) {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Thread.ofVirtual().name("queue-processor").start(() -> {
+            int total = 0;
+            try {
+                while (total < maxItems) {
+                    int size = Math.min(batchSize, maxItems - total);
+                    int processed = CompletableFuture.supplyAsync(() -> manager.processQueue(size).size(), applyExecutor)
+                        .join();
+                    signalCapacity();
+                    if (processed == 0) break;
+                    total += processed;
+                }
+                future.complete(total);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    // Backpressure for producers: once the queue passes the high-water mark, wait until
+    // the processor has drained it to half of that. Returns false if the timeout expires first.
+    public boolean awaitCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+        if (manager.getPendingItems().size() < highWaterMark) return true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (capacity) {
+            while (manager.getPendingItems().size() > highWaterMark / 2) {
+                start(null);
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                TimeUnit.NANOSECONDS.timedWait(capacity, remaining);
+            }
+        }
+        return true;
+    }
+
+    private void drain(Run run) {
+        int total = 0;
+        try {
+            while (true) {
+                int soFar = total;
+                MyLinkedList<EWasteItem> batch = CompletableFuture.supplyAsync(() -> {
+                    MyLinkedList<EWasteItem> processed = manager.processQueue(batchSize);
+                    if (!processed.isEmpty()) {
+                        int remaining = manager.getPendingItems().size();
+                        for (BatchListener listener : run.listeners) {
+                            listener.onBatch(processed, soFar + processed.size(), remaining);
+                        }
+                    }
+                    return processed;
+                }, applyExecutor).join();
+
+                signalCapacity();
+                if (batch.isEmpty()) break;
+                total += batch.size();
+            }
+            finish(run);
+            run.future.complete(total);
+        } catch (Throwable t) {
+            finish(run);
+            run.future.completeExceptionally(t);
+        }
+    }
+
+    private void signalCapacity() {
+        synchronized (capacity) {
+            capacity.notifyAll();
+        }
+    }
+
+    private synchronized void finish(Run run) {
+        if (active == run) {
+            active = null;
+        }
+    }
+}
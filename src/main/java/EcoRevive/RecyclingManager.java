@@ -1,46 +1,212 @@
 package EcoRevive;
 
+import java.util.ArrayList;
 import java.util.Comparator; // Keep Comparator
+import java.util.HashMap;
+import java.util.Set;
+import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 // Removed java.util.Collections/Queue/Stack logic in favor of custom ADTs
 
+// Writers are synchronized; after every change an immutable InventorySnapshot is published so
+// readers (export, dashboard, search) never lock. Enqueueing stays lock-free (see MyConcurrentQueue).
 public class RecyclingManager {
+    // Compact the snapshot vector once removed slots outnumber live ones (and at least this many)
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    // Lock-free sorts of a snapshot that lose the race to other writers this often sort under the lock
+    private static final int MAX_SORT_ATTEMPTS = 3;
+
+    // Operation metrics (see Metrics), resolved once so recording never looks anything up
+    private static final LatencyHistogram PROCESS_QUEUE_LATENCY = Metrics.histogram("manager.processQueue");
+    private static final LatencyHistogram SEARCH_LATENCY = Metrics.histogram("manager.searchItems");
+    private static final LatencyHistogram SORT_LATENCY = Metrics.histogram("manager.sortItems");
+    private static final LatencyHistogram STATISTICS_LATENCY = Metrics.histogram("manager.getStatistics");
+    private static final LongAdder ITEMS_ENQUEUED = Metrics.counter("manager.itemsEnqueued");
+    private static final LongAdder ITEMS_PROCESSED = Metrics.counter("manager.itemsProcessed");
+    private static final LongAdder ITEMS_REMOVED = Metrics.counter("manager.itemsRemoved");
+    private static final LongAdder ITEMS_UPDATED = Metrics.counter("manager.itemsUpdated");
+
     private MyLinkedList<EWasteItem> recycledItems;
-    private MyQueue<EWasteItem> pendingQueue;
-    private MyStack<EWasteItem> deletedStack;
-    private int nextId = 1;
+    // Multi-producer: intake stations may enqueue concurrently; processQueue is the only consumer
+    private MyConcurrentQueue<EWasteItem> pendingQueue;
+    // Bounded: older deletions spill to disk (see UndoHistory)
+    private UndoHistory deletedStack;
+    // Primary-key index: item ID -> node inside recycledItems and slot in the snapshot vector
+    private Map<String, IndexEntry> idIndex;
+    private TrigramIndex searchIndex;
+    private InventoryStats stats;
+    private InventoryJournal journal;
+    // Created on first use: the constructor must not hand out 'this'
+    private volatile QueueProcessor queueProcessor;
+    private final List<InventoryListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private int parallelSortThreshold = Constants.PARALLEL_SORT_THRESHOLD;
+    // Same items and order as recycledItems, with removed items left as null slots
+    private MyPersistentVector<EWasteItem> slots = MyPersistentVector.empty();
+    private int tombstones;
+    private long version;
+    private volatile InventorySnapshot current;
+
+    private static final class IndexEntry {
+        final Node<EWasteItem> node;
+        int slot;
+
+        IndexEntry(Node<EWasteItem> node, int slot) {
+            this.node = node;
+            this.slot = slot;
+        }
+    }
 
     public RecyclingManager() {
         this.recycledItems = new MyLinkedList<>();
-        this.pendingQueue = new MyQueue<>();
-        this.deletedStack = new MyStack<>();
+        this.pendingQueue = new MyConcurrentQueue<>();
+        this.deletedStack = new UndoHistory(Constants.UNDO_MAX_ENTRIES, Constants.UNDO_MAX_BYTES);
+        this.idIndex = new HashMap<>();
+        this.searchIndex = new TrigramIndex();
+        this.stats = new InventoryStats();
+        publish();
+    }
+
+    // Reports this manager's queue, inventory and undo sizes as gauges. Gauges are process-wide,
+    // so only the application's own manager registers them (the GUI and the headless CLI).
+    public void registerMetrics() {
+        Metrics.gauge("manager.queueDepth", () -> pendingQueue.size());
+        Metrics.gauge("manager.inventorySize", () -> current.size());
+        Metrics.gauge("manager.undoDepth", () -> deletedStack.size());
     }
 
     public String generateNextId() {
-        return String.format("%03d", nextId++);
+        return formatId(nextId.getAndIncrement());
+    }
+
+    // Reserve count consecutive IDs at once (bulk intake); returns the first, see formatId
+    public int allocateIdBlock(int count) {
+        return nextId.getAndAdd(count);
+    }
+
+    // Same as String.format("%03d", id), without the formatter on the bulk import path
+    public static String formatId(int id) {
+        String digits = Integer.toString(id);
+        return digits.length() >= 3 ? digits : "000".substring(digits.length()) + digits;
+    }
+
+    // Mutations are appended to the journal once one is attached (replay runs before that)
+    public void setJournal(InventoryJournal journal) {
+        this.journal = journal;
     }
 
     // Add item to the pending queue
     public void addItemToQueue(EWasteItem item) {
-        pendingQueue.enqueue(item);
+        if (journal != null) {
+            // Journaled first, so the record is on its way before the consumer can see the item
+            pendingQueue.enqueue(item, journal.logEnqueue(item));
+        } else {
+            pendingQueue.enqueue(item);
+        }
+        ITEMS_ENQUEUED.increment();
+        noteId(item.getId());
+    }
+
+    // Journal replay: an item that was still queued, with the sequence it was journaled under
+    void requeueItem(EWasteItem item, long sequence) {
+        pendingQueue.enqueue(item, sequence);
+        ITEMS_ENQUEUED.increment();
+        noteId(item.getId());
+    }
+
+    // Blocking enqueue for bulk producers: waits while the queue is above the high-water mark.
+    // Returns false if there was still no room after the timeout.
+    public boolean offerItemToQueue(EWasteItem item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!getQueueProcessor().awaitCapacity(timeout, unit)) {
+            return false;
+        }
+        addItemToQueue(item);
+        return true;
+    }
+
+    // Drain the queue in the background, batch by batch.
+    // Completes with the number of items processed; listener (may be null) sees each batch.
+    public CompletableFuture<Integer> processQueueAsync(QueueProcessor.BatchListener listener) {
+        return getQueueProcessor().start(listener);
+    }
+
+    // Process at most maxItems in the background, batch by batch; completes with the number processed
+    public CompletableFuture<Integer> processQueueAsync(int maxItems) {
+        return getQueueProcessor().process(maxItems);
+    }
+
+    public QueueProcessor getQueueProcessor() {
+        QueueProcessor processor = queueProcessor;
+        if (processor == null) {
+            synchronized (this) {
+                processor = queueProcessor;
+                if (processor == null) {
+                    processor = new QueueProcessor(this);
+                    queueProcessor = processor;
+                }
+            }
+        }
+        return processor;
+    }
+
+    public void addInventoryListener(InventoryListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeInventoryListener(InventoryListener listener) {
+        listeners.remove(listener);
     }
 
     // Process all items in the queue (move to recycled list)
     // Returns the list of items that were processed
     public MyLinkedList<EWasteItem> processQueue() {
+        return processQueue(Integer.MAX_VALUE);
+    }
+
+    // Process at most maxItems from the head of the queue
+    public synchronized MyLinkedList<EWasteItem> processQueue(int maxItems) {
         MyLinkedList<EWasteItem> processed = new MyLinkedList<>();
         if (pendingQueue.isEmpty()) {
             return processed;
         }
 
-        while (!pendingQueue.isEmpty()) {
+        long start = System.nanoTime();
+        JfrEvents.QueueProcess event = new JfrEvents.QueueProcess();
+        event.begin();
+        // Producers keep enqueueing meanwhile; only what is queued now is taken
+        int count = Math.min(maxItems, pendingQueue.size());
+        long[] sequences = journal != null ? new long[count] : null;
+        List<EWasteItem> added = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
             EWasteItem item = pendingQueue.dequeue();
-            recycledItems.add(item);
+            if (sequences != null) {
+                sequences[i] = pendingQueue.lastSequence();
+            }
+            addToInventory(item);
             processed.add(item);
+            added.add(item);
         }
+        // One snapshot and one notification for the whole batch
+        publish();
+        for (InventoryListener listener : listeners) {
+            listener.itemsAdded(added);
+        }
+        if (journal != null) {
+            journal.logProcess(sequences, count);
+            maybeCompact();
+        }
+        ITEMS_PROCESSED.add(processed.size());
+        PROCESS_QUEUE_LATENCY.recordSince(start);
+        event.complete(processed.size(), pendingQueue.size());
         return processed;
     }
 
-    public MyQueue<EWasteItem> getPendingItems() {
+    public MyConcurrentQueue<EWasteItem> getPendingItems() {
         return pendingQueue;
     }
 
@@ -58,152 +224,417 @@ public class RecyclingManager {
         System.out.println("--------------------------");
     }
 
+    // Live list: only safe to iterate while holding the manager's lock (or on a single thread)
     public MyLinkedList<EWasteItem> getRecycledItems() {
         return recycledItems;
     }
 
-    public void setRecycledItems(MyLinkedList<EWasteItem> items) {
+    // Latest published state; lock-free and safe to read from any thread
+    public InventorySnapshot snapshot() {
+        return current;
+    }
+
+    public synchronized void setRecycledItems(MyLinkedList<EWasteItem> items) {
+        JfrEvents.Mutation event = new JfrEvents.Mutation();
+        event.begin();
         this.recycledItems = items;
+        rebuildIndex();
+        publish();
+        for (InventoryListener listener : listeners) {
+            listener.inventoryReset();
+        }
         // Update nextId based on existing items
-        int maxId = 0;
+        nextId.set(1);
         for (EWasteItem item : items) {
-            try {
-                int id = Integer.parseInt(item.getId());
-                if (id > maxId) {
-                    maxId = id;
-                }
-            } catch (NumberFormatException e) {
-                // Ignore non-numeric IDs
-            }
+            noteId(item.getId());
+        }
+        event.complete("replace", null, items.size(), items.size());
+    }
+
+    // Startup load: append one chunk read from disk, publishing and notifying once for the whole
+    // chunk so views can fill in while the rest of the file is still being read
+    public synchronized void appendLoadedItems(MyLinkedList<EWasteItem> chunk) {
+        JfrEvents.Mutation event = new JfrEvents.Mutation();
+        event.begin();
+        List<EWasteItem> added = new ArrayList<>(chunk.size());
+        for (Node<EWasteItem> node = chunk.firstNode(); node != null; node = node.next) {
+            // First occurrence wins, as in rebuildIndex
+            idIndex.putIfAbsent(node.data.getId(), new IndexEntry(node, slots.size()));
+            slots = slots.append(node.data);
+            searchIndex.add(node.data);
+            stats.add(node.data);
+            added.add(node.data);
+        }
+        recycledItems.appendAll(chunk);
+        publish();
+        for (InventoryListener listener : listeners) {
+            listener.itemsAdded(added);
         }
-        nextId = maxId + 1;
+        event.complete("load", null, added.size(), recycledItems.size());
+    }
+
+    // After the last chunk: take nextId from the persisted mark, or rescan the IDs if there is none
+    public void finishLoading(int nextIdMark) {
+        if (nextIdMark > 0) {
+            nextId.accumulateAndGet(nextIdMark, Math::max);
+            return;
+        }
+        for (EWasteItem item : snapshot()) {
+            noteId(item.getId());
+        }
+    }
+
+    // Next ID to be handed out; saved with the snapshot as a high-water mark
+    public int getNextIdMark() {
+        return nextId.get();
+    }
+
+    // Keep nextId ahead of every numeric ID seen
+    private void noteId(String id) {
+        try {
+            int value = Integer.parseInt(id);
+            nextId.accumulateAndGet(value + 1, Math::max);
+        } catch (NumberFormatException e) {
+            // Ignore non-numeric IDs
+        }
+    }
+
+    // Look up an item by ID in O(1)
+    public synchronized EWasteItem findById(String id) {
+        IndexEntry entry = idIndex.get(id);
+        return entry == null ? null : entry.node.data;
     }
 
     // Remove item by ID and push to stack
-    public boolean removeItem(String id) {
-        // Must iterate manually using index or iterator
-        for (EWasteItem item : recycledItems) {
-            if (item.getId().equals(id)) {
-                // O(N) scan but sufficient for requirements
-                recycledItems.remove(item);
-                deletedStack.push(item);
-                return true;
-            }
+    public synchronized boolean removeItem(String id) {
+        JfrEvents.Mutation event = new JfrEvents.Mutation();
+        event.begin();
+        IndexEntry entry = idIndex.remove(id);
+        if (entry == null) {
+            return false;
         }
-        return false;
+        Node<EWasteItem> node = entry.node;
+        recycledItems.unlink(node);
+        slots = slots.set(entry.slot, null);
+        tombstones++;
+        searchIndex.remove(node.data);
+        stats.remove(node.data);
+        deletedStack.push(node.data);
+        ITEMS_REMOVED.increment();
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > recycledItems.size()) {
+            rebuildSlots();
+        }
+        publish();
+        for (InventoryListener listener : listeners) {
+            listener.itemRemoved(node.data);
+        }
+        if (journal != null) {
+            journal.logRemove(id);
+            maybeCompact();
+        }
+        event.complete("remove", id, 1, recycledItems.size());
+        return true;
     }
 
     // Update item details
-    public boolean updateItem(String id, String newName, String newCategory, double newWeight, String newCondition) {
-        for (int i = 0; i < recycledItems.size(); i++) {
-            EWasteItem item = recycledItems.get(i);
-            if (item.getId().equals(id)) {
-                // Create new item with updated details but same ID
-                EWasteItem updatedItem = new EWasteItem(id, newName, newCategory, newWeight, newCondition);
-                recycledItems.set(i, updatedItem);
-                return true;
-            }
+    public synchronized boolean updateItem(String id, String newName, String newCategory, double newWeight, String newCondition) {
+        JfrEvents.Mutation event = new JfrEvents.Mutation();
+        event.begin();
+        IndexEntry entry = idIndex.get(id);
+        if (entry == null) {
+            return false;
         }
-        return false;
+        Node<EWasteItem> node = entry.node;
+        // Create new item with updated details but same ID
+        EWasteItem oldItem = node.data;
+        searchIndex.remove(oldItem);
+        stats.remove(oldItem);
+        node.data = new EWasteItem(id, newName, newCategory, newWeight, newCondition);
+        slots = slots.set(entry.slot, node.data);
+        searchIndex.add(node.data);
+        stats.add(node.data);
+        ITEMS_UPDATED.increment();
+        publish();
+        for (InventoryListener listener : listeners) {
+            listener.itemReplaced(oldItem, node.data);
+        }
+        if (journal != null) {
+            journal.logUpdate(node.data);
+            maybeCompact();
+        }
+        event.complete("update", id, 1, recycledItems.size());
+        return true;
     }
 
     // Undo last delete
-    public boolean undoDelete() {
+    public synchronized boolean undoDelete() {
         if (!deletedStack.isEmpty()) {
+            JfrEvents.Mutation event = new JfrEvents.Mutation();
+            event.begin();
             EWasteItem item = deletedStack.pop();
-            recycledItems.add(item);
+            addToInventory(item);
+            publishAdded(item);
+            if (journal != null) {
+                journal.logUndo(item);
+                maybeCompact();
+            }
+            event.complete("undo", item.getId(), 1, recycledItems.size());
             return true;
         }
         return false;
     }
 
-    // Sort items
+    // Put a previously deleted item back without going through the undo stack (journal replay)
+    public synchronized void restoreItem(EWasteItem item) {
+        JfrEvents.Mutation event = new JfrEvents.Mutation();
+        event.begin();
+        addToInventory(item);
+        publishAdded(item);
+        event.complete("restore", item.getId(), 1, recycledItems.size());
+    }
+
+    // Fold the journal into a fresh snapshot now and wait for it to be written (no-op without a journal)
+    public void compactJournal() {
+        InventoryJournal journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+        journal.awaitCompaction();
+        synchronized (this) {
+            startCompaction();
+        }
+        journal.awaitCompaction();
+    }
+
+    // The snapshot is written by the journal in the background, so this only costs the cut
+    private void maybeCompact() {
+        if (journal.needsCompaction()) {
+            startCompaction();
+        }
+    }
+
+    // Callers hold the monitor and have published every change
+    private void startCompaction() {
+        journal.startCompaction(current, nextId.get());
+    }
+
+    // Appends and indexes; the caller publishes and notifies (processQueue once per batch)
+    private void addToInventory(EWasteItem item) {
+        Node<EWasteItem> node = recycledItems.addNode(item);
+        // First occurrence wins, as in rebuildIndex and appendLoadedItems
+        idIndex.putIfAbsent(item.getId(), new IndexEntry(node, slots.size()));
+        slots = slots.append(item);
+        searchIndex.add(item);
+        stats.add(item);
+    }
+
+    private void publishAdded(EWasteItem item) {
+        publish();
+        for (InventoryListener listener : listeners) {
+            listener.itemAdded(item);
+        }
+    }
+
+    private void rebuildIndex() {
+        idIndex = new HashMap<>();
+        searchIndex.clear();
+        stats.clear();
+        int slot = 0;
+        for (Node<EWasteItem> node = recycledItems.firstNode(); node != null; node = node.next) {
+            // Keep the first occurrence, matching the old first-match scan
+            idIndex.putIfAbsent(node.data.getId(), new IndexEntry(node, slot++));
+            searchIndex.add(node.data);
+            stats.add(node.data);
+        }
+        slots = MyPersistentVector.of(recycledItems);
+        tombstones = 0;
+    }
+
+    // Re-lay the snapshot vector in list order, dropping removed slots (after a sort or many removals)
+    private void rebuildSlots() {
+        int slot = 0;
+        for (Node<EWasteItem> node = recycledItems.firstNode(); node != null; node = node.next) {
+            IndexEntry entry = idIndex.get(node.data.getId());
+            if (entry != null && entry.node == node) {
+                entry.slot = slot;
+            }
+            slot++;
+        }
+        slots = MyPersistentVector.of(recycledItems);
+        tombstones = 0;
+    }
+
+    private void publish() {
+        current = new InventorySnapshot(slots, recycledItems.size(), ++version, stats.snapshot());
+    }
+
+    // Cap how many deleted items (or estimated bytes) undo keeps in memory
+    public synchronized void setUndoBudget(int maxEntries, long maxBytes) {
+        deletedStack.setBudget(maxEntries, maxBytes);
+    }
+
+    // Sort items (stable; large inventories are sorted in parallel). A copy of the snapshot is
+    // sorted without the lock, which is only taken to relink the nodes in the new order; if the
+    // inventory changed in the meantime the new snapshot is sorted instead.
     public void sortItems(Comparator<EWasteItem> comparator) {
-        recycledItems.sort(comparator);
+        long start = System.nanoTime();
+        JfrEvents.Sort event = new JfrEvents.Sort();
+        event.begin();
+        for (int attempt = 1; ; attempt++) {
+            InventorySnapshot snapshot = current;
+            boolean parallel = snapshot.size() >= parallelSortThreshold;
+            if (attempt > MAX_SORT_ATTEMPTS) {
+                // Constant churn: sort in place under the lock rather than retrying forever
+                synchronized (this) {
+                    parallel = recycledItems.size() >= parallelSortThreshold;
+                    if (parallel) {
+                        recycledItems.parallelSort(comparator);
+                    } else {
+                        recycledItems.sort(comparator);
+                    }
+                    finishSort(start, event, parallel);
+                }
+                return;
+            }
+            int[] order = sortedOrder(snapshot, comparator, parallel);
+            synchronized (this) {
+                if (current.getVersion() == snapshot.getVersion()) {
+                    applyOrder(order);
+                    finishSort(start, event, parallel);
+                    return;
+                }
+            }
+        }
+    }
+
+    // Positions of the snapshot's items in sorted order. The items are copied into an array and a
+    // primitive index array is merge sorted against it, so nothing is boxed per row.
+    private static int[] sortedOrder(InventorySnapshot snapshot, Comparator<EWasteItem> comparator, boolean parallel) {
+        EWasteItem[] items = new EWasteItem[snapshot.size()];
+        int count = 0;
+        for (EWasteItem item : snapshot) {
+            items[count++] = item;
+        }
+        return IndexSort.sortedOrder(items, comparator, parallel);
+    }
+
+    // Caller holds the monitor and has checked that the list is still the one the order was computed
+    // from. The nodes themselves are kept, so idIndex stays valid and only the slots move.
+    @SuppressWarnings("unchecked")
+    private void applyOrder(int[] order) {
+        Node<EWasteItem>[] nodes = (Node<EWasteItem>[]) new Node<?>[recycledItems.size()];
+        int i = 0;
+        for (Node<EWasteItem> node = recycledItems.firstNode(); node != null; node = node.next) {
+            nodes[i++] = node;
+        }
+        Node<EWasteItem>[] sorted = (Node<EWasteItem>[]) new Node<?>[nodes.length];
+        for (i = 0; i < order.length; i++) {
+            sorted[i] = nodes[order[i]];
+        }
+        recycledItems.reorder(sorted);
+    }
+
+    private void finishSort(long start, JfrEvents.Sort event, boolean parallel) {
+        rebuildSlots();
+        publish();
+        SORT_LATENCY.recordSince(start);
+        event.complete(recycledItems.size(), parallel);
+        for (InventoryListener listener : listeners) {
+            listener.inventoryReset();
+        }
+    }
+
+    public void setParallelSortThreshold(int threshold) {
+        this.parallelSortThreshold = threshold;
     }
 
     // Search items by query (ID, Name, or Category)
     public MyLinkedList<EWasteItem> searchItems(String query) {
+        long start = System.nanoTime();
+        JfrEvents.Search event = new JfrEvents.Search();
+        event.begin();
+        MyLinkedList<EWasteItem> result = search(query);
+        SEARCH_LATENCY.recordSince(start);
+        event.complete(query, result.size(), current.size());
+        return result;
+    }
+
+    private MyLinkedList<EWasteItem> search(String query) {
         MyLinkedList<EWasteItem> result = new MyLinkedList<>();
         String lowerQuery = query.toLowerCase();
-        for (EWasteItem item : recycledItems) {
-            if (item.getId().toLowerCase().contains(lowerQuery) ||
-                item.getName().toLowerCase().contains(lowerQuery) ||
-                item.getCategory().toLowerCase().contains(lowerQuery)) {
+        InventorySnapshot snapshot;
+        EWasteItem[] found = null;
+        long[] order = null;
+        // Only the posting-list lookup needs the lock. Each candidate is copied out with its
+        // snapshot slot, so results can be put back in inventory order without walking the inventory.
+        synchronized (this) {
+            snapshot = current;
+            Set<EWasteItem> candidates = searchIndex.candidates(lowerQuery);
+            if (candidates != null) {
+                found = new EWasteItem[candidates.size()];
+                order = new long[candidates.size()];
+                int count = 0;
+                for (EWasteItem item : candidates) {
+                    IndexEntry entry = idIndex.get(item.getId());
+                    if (entry == null || entry.node.data != item) {
+                        // A repeated ID the index does not point at: fall back to the full walk
+                        found = null;
+                        break;
+                    }
+                    found[count] = item;
+                    order[count] = ((long) entry.slot << 32) | count;
+                    count++;
+                }
+            }
+        }
+        if (found != null) {
+            java.util.Arrays.sort(order);
+            for (long key : order) {
+                EWasteItem item = found[(int) key];
+                if (searchIndex.matches(item, lowerQuery)) {
+                    result.add(item);
+                }
+            }
+            return result;
+        }
+        // Query too short for trigrams: every item has to be checked
+        for (EWasteItem item : snapshot) {
+            if (searchIndex.matches(item, lowerQuery)) {
                 result.add(item);
             }
         }
         return result;
     }
 
-    // Calculate statistics
+    // Calculate statistics (constant time, served from the published aggregates)
     public String getStatistics() {
-        int totalItems = recycledItems.size();
-        double totalWeight = 0;
-        java.util.Map<String, Integer> categoryCount = new java.util.HashMap<>();
-
-        for (EWasteItem item : recycledItems) {
-            totalWeight += item.getWeight();
-            categoryCount.put(item.getCategory(), categoryCount.getOrDefault(item.getCategory(), 0) + 1);
-        }
-
-        String mostCommonCategory = "N/A";
-        int maxCount = 0;
-        for (java.util.Map.Entry<String, Integer> entry : categoryCount.entrySet()) {
-            if (entry.getValue() > maxCount) {
-                maxCount = entry.getValue();
-                mostCommonCategory = entry.getKey();
-            }
-        }
-
-        return String.format("Total Items Recycled: %d\nTotal Weight Recycled: %.2f kg\nMost Common Category: %s\nTotal Eco-Points: %d",
-                             totalItems, totalWeight, mostCommonCategory, calculateEcoPoints());
+        long start = System.nanoTime();
+        InventoryStats.Snapshot totals = current.getStats();
+        String text = String.format("Total Items Recycled: %d\nTotal Weight Recycled: %.2f kg\nMost Common Category: %s\nTotal Eco-Points: %d",
+                             totals.getTotalItems(), totals.getTotalWeight(), totals.getMostCommonCategory(), totals.getEcoPoints());
+        STATISTICS_LATENCY.recordSince(start);
+        return text;
     }
 
     // Calculate total eco points
     public int calculateEcoPoints() {
-        int totalPoints = 0;
-        
-        for (EWasteItem item : recycledItems) {
-            double points = 0;
-            
-            // 1. Base points based on Category (Precious metals/complexity value)
-            switch (item.getCategory()) {
-                case Constants.CAT_LAPTOP:
-                case Constants.CAT_MOBILE:
-                case Constants.CAT_TABLET:
-                    points += Constants.POINTS_HIGH_VALUE; // High value
-                    break;
-                case Constants.CAT_TV:
-                case Constants.CAT_APPLIANCE:
-                    points += Constants.POINTS_MEDIUM_VALUE; // Medium value
-                    break;
-                default:
-                    points += Constants.POINTS_STANDARD; // Standard value
-            }
+        return current.getStats().getEcoPoints();
+    }
 
-            // 2. Points for Weight (Encourage recycling heavy items)
-            points += (item.getWeight() * Constants.POINTS_PER_KG);
-
-            // 3. Multiplier based on Condition (Encourage reuse)
-            double multiplier = 1.0;
-            switch (item.getCondition()) {
-                case Constants.COND_NEW:
-                    multiplier = Constants.MULTIPLIER_NEW; // Best for reuse
-                    break;
-                case Constants.COND_REFURBISHED:
-                    multiplier = Constants.MULTIPLIER_REFURBISHED;
-                    break;
-                case Constants.COND_USED:
-                    multiplier = Constants.MULTIPLIER_USED;
-                    break;
-                case Constants.COND_BROKEN:
-                    multiplier = Constants.MULTIPLIER_BROKEN; // Recycling only
-                    break;
-            }
+    public double getTotalWeight() {
+        return current.getStats().getTotalWeight();
+    }
 
-            totalPoints += (int) (points * multiplier);
-        }
-        return totalPoints;
+    public java.util.Map<String, Integer> getCategoryCounts() {
+        return current.getStats().getCategoryCounts();
+    }
+
+    // All dashboard figures from a single consistent read
+    public InventoryStats.Snapshot getStatsSnapshot() {
+        return current.getStats();
+    }
+
+    public java.util.Map<String, Integer> getConditionCounts() {
+        return current.getStats().getConditionCounts();
     }
 }
@@ -0,0 +1,88 @@
+package EcoRevive;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Inverted trigram index over the lower-cased ID, name and category of each item.
+// Maintained incrementally by RecyclingManager so searches only verify candidates.
+public class TrigramIndex {
+    private static final int GRAM = 3;
+
+    private final Map<Long, Set<EWasteItem>> postings = new HashMap<>();
+    // Lower-cased fields per item, cached so a query never lower-cases the inventory again.
+    // Concurrent so matches() can run without the manager's lock.
+    private final Map<EWasteItem, String[]> fields = new ConcurrentHashMap<>();
+
+    public void add(EWasteItem item) {
+        String[] keys = {
+            item.getId().toLowerCase(),
+            item.getName().toLowerCase(),
+            item.getCategory().toLowerCase()
+        };
+        fields.put(item, keys);
+        for (String key : keys) {
+            for (int i = 0; i + GRAM <= key.length(); i++) {
+                postings.computeIfAbsent(gram(key, i), g -> new HashSet<>()).add(item);
+            }
+        }
+    }
+
+    public void remove(EWasteItem item) {
+        String[] keys = fields.remove(item);
+        if (keys == null) return;
+        for (String key : keys) {
+            for (int i = 0; i + GRAM <= key.length(); i++) {
+                Long gram = gram(key, i);
+                Set<EWasteItem> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(item);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        fields.clear();
+    }
+
+    // Smallest posting list among the query's trigrams, or null when the query
+    // is too short to be narrowed down and every item has to be checked
+    public Set<EWasteItem> candidates(String lowerQuery) {
+        if (lowerQuery.length() < GRAM) return null;
+        Set<EWasteItem> smallest = null;
+        for (int i = 0; i + GRAM <= lowerQuery.length(); i++) {
+            Set<EWasteItem> posting = postings.get(gram(lowerQuery, i));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    // Exact check against the cached fields (same semantics as the old contains() scan).
+    // Items removed since the caller's snapshot are checked directly.
+    public boolean matches(EWasteItem item, String lowerQuery) {
+        String[] keys = fields.get(item);
+        if (keys == null) {
+            return item.getId().toLowerCase().contains(lowerQuery)
+                || item.getName().toLowerCase().contains(lowerQuery)
+                || item.getCategory().toLowerCase().contains(lowerQuery);
+        }
+        return keys[0].contains(lowerQuery) || keys[1].contains(lowerQuery) || keys[2].contains(lowerQuery);
+    }
+
+    private static Long gram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+}
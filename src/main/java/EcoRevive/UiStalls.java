@@ -0,0 +1,87 @@
+package EcoRevive;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+
+// Wraps FX-thread work in a JFR UiStall event (see JfrEvents.UiStall). A recording keeps the runs
+// that blocked the FX thread past the threshold, named by panel and action, so a reported freeze
+// can be matched to the handler that caused it.
+public final class UiStalls {
+    // Handlers being timed, innermost last; FX thread only
+    private static final ArrayDeque<Watch> ACTIVE = new ArrayDeque<>();
+
+    private static final class Watch {
+        final String panel;
+        final String action;
+        JfrEvents.UiStall event;
+
+        Watch(String panel, String action) {
+            this.panel = panel;
+            this.action = action;
+            start();
+        }
+
+        void start() {
+            event = new JfrEvents.UiStall();
+            event.begin();
+        }
+
+        void stop() {
+            event.complete(panel, action);
+        }
+    }
+
+    private UiStalls() {
+    }
+
+    public static <T extends Event> EventHandler<T> watch(String panel, String action, EventHandler<T> handler) {
+        return event -> {
+            Watch watch = push(panel, action);
+            try {
+                handler.handle(event);
+            } finally {
+                pop(watch);
+            }
+        };
+    }
+
+    // For work posted with Platform.runLater
+    public static Runnable watch(String panel, String action, Runnable task) {
+        return () -> {
+            Watch watch = push(panel, action);
+            try {
+                task.run();
+            } finally {
+                pop(watch);
+            }
+        };
+    }
+
+    // Modal dialogs (showAndWait) run a nested event loop while the user reads them. That time is
+    // not a stall, so the active events are closed before the dialog and restarted after it.
+    public static <T> T waitForUser(Supplier<T> dialog) {
+        for (Watch watch : ACTIVE) {
+            watch.stop();
+        }
+        try {
+            return dialog.get();
+        } finally {
+            for (Watch watch : ACTIVE) {
+                watch.start();
+            }
+        }
+    }
+
+    private static Watch push(String panel, String action) {
+        Watch watch = new Watch(panel, action);
+        ACTIVE.addLast(watch);
+        return watch;
+    }
+
+    private static void pop(Watch watch) {
+        ACTIVE.remove(watch);
+        watch.stop();
+    }
+}
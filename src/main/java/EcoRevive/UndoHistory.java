@@ -0,0 +1,265 @@
+package EcoRevive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Undo stack for deleted items with a memory budget. The newest entries live in a ring buffer
+// (O(1) push/pop); once the entry or byte budget is exceeded the oldest ones are spilled to a
+// segment file, and paged back in a batch at a time when undo reaches them.
+public final class UndoHistory {
+    // Segment records are [ItemCodec record][i32 record length], so the file is read from the end
+    private static final int TRAILER_BYTES = 4;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+    private static final int READ_BLOCK_BYTES = ItemCodec.MAX_RECORD_BYTES + TRAILER_BYTES;
+    // Rough heap cost of an EWasteItem and its four strings, not counting the characters
+    private static final int ITEM_OVERHEAD_BYTES = 160;
+
+    private final Path directory;
+    private int maxEntries;
+    private long maxBytes;
+
+    // In-memory entries, oldest at head
+    private EWasteItem[] ring = new EWasteItem[16];
+    private int head;
+    private int count;
+    private long bytes;
+
+    // Spilled entries, oldest first; created on the first spill
+    private FileChannel segment;
+    private ByteBuffer writeBuffer;
+    private ByteBuffer readBlock;
+    private byte[] scratch;
+    private long diskSize;
+    private int spilledCount;
+
+    public UndoHistory(int maxEntries, long maxBytes) {
+        this(maxEntries, maxBytes, null);
+    }
+
+    // directory is where the segment file goes; null uses the system temp directory
+    public UndoHistory(int maxEntries, long maxBytes, Path directory) {
+        this.directory = directory;
+        setBudget(maxEntries, maxBytes);
+    }
+
+    public void setBudget(int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("Undo budget must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        trim();
+    }
+
+    public void push(EWasteItem item) {
+        addNewest(item);
+        trim();
+    }
+
+    public EWasteItem pop() {
+        if (count == 0 && spilledCount > 0) {
+            pageIn();
+        }
+        return count == 0 ? null : removeNewest();
+    }
+
+    public EWasteItem peek() {
+        if (count == 0 && spilledCount > 0) {
+            pageIn();
+        }
+        return count == 0 ? null : ring[(head + count - 1) % ring.length];
+    }
+
+    public boolean isEmpty() {
+        return count == 0 && spilledCount == 0;
+    }
+
+    public int size() {
+        return count + spilledCount;
+    }
+
+    public int spilledSize() {
+        return spilledCount;
+    }
+
+    // Move the oldest entries to disk until the newest ones fit the budget (always keeps one)
+    private void trim() {
+        while (count > 1 && (count > maxEntries || bytes > maxBytes)) {
+            spill(removeOldest());
+        }
+    }
+
+    private void spill(EWasteItem item) {
+        try {
+            ItemCodec.Encoded record = ItemCodec.encode(item);
+            openSegment();
+            int length = record.size();
+            if (writeBuffer.remaining() < length + TRAILER_BYTES) {
+                flushWrites();
+            }
+            if (writeBuffer.remaining() < length + TRAILER_BYTES) {
+                // Bigger than the whole buffer; write it on its own
+                ByteBuffer large = ByteBuffer.allocate(length + TRAILER_BYTES);
+                record.writeTo(large);
+                large.putInt(length);
+                large.flip();
+                writeAt(large, diskSize);
+                diskSize += large.limit();
+            } else {
+                record.writeTo(writeBuffer);
+                writeBuffer.putInt(length);
+            }
+            spilledCount++;
+        } catch (IOException e) {
+            // Losing the oldest undo entry is better than breaking the budget
+            System.err.println("Could not spill undo entry " + item.getId() + ", dropping it: " + e.getMessage());
+        }
+    }
+
+    // Bring back up to half the budget, newest spilled entries first
+    private void pageIn() {
+        int targetEntries = Math.max(1, maxEntries / 2);
+        long targetBytes = maxBytes / 2;
+        try {
+            flushWrites();
+            long end = diskSize;
+            long blockStart = -1;
+            while (spilledCount > 0 && (count == 0 || (count < targetEntries && bytes < targetBytes))) {
+                if (blockStart < 0 || end - TRAILER_BYTES < blockStart) {
+                    blockStart = loadBlock(end);
+                }
+                int length = readBlock.getInt((int) (end - TRAILER_BYTES - blockStart));
+                long recordStart = end - TRAILER_BYTES - length;
+                if (recordStart < blockStart) {
+                    blockStart = loadBlock(end);
+                }
+                readBlock.position((int) (recordStart - blockStart));
+                addOldest(ItemCodec.read(readBlock, scratch));
+                spilledCount--;
+                end = recordStart;
+            }
+            segment.truncate(end);
+            diskSize = end;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Undo history on disk is unreadable, discarding " + spilledCount + " entries: " + e.getMessage());
+            discardSegment();
+        }
+    }
+
+    // Read the READ_BLOCK_BYTES (or fewer) ending at end; returns the file offset of the block
+    private long loadBlock(long end) throws IOException {
+        long start = Math.max(0, end - READ_BLOCK_BYTES);
+        readBlock.clear();
+        readBlock.limit((int) (end - start));
+        long position = start;
+        while (readBlock.hasRemaining()) {
+            int read = segment.read(readBlock, position);
+            if (read < 0) {
+                throw new IOException("Undo segment ended early");
+            }
+            position += read;
+        }
+        return start;
+    }
+
+    private void openSegment() throws IOException {
+        if (segment != null) {
+            return;
+        }
+        Path path = directory == null
+            ? Files.createTempFile("ecorevive-undo", ".seg")
+            : Files.createTempFile(directory, "ecorevive-undo", ".seg");
+        segment = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                   StandardOpenOption.DELETE_ON_CLOSE);
+        writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        readBlock = ByteBuffer.allocate(READ_BLOCK_BYTES);
+        scratch = new byte[ItemCodec.MAX_FIELD_BYTES];
+    }
+
+    private void flushWrites() throws IOException {
+        if (writeBuffer == null || writeBuffer.position() == 0) {
+            return;
+        }
+        writeBuffer.flip();
+        int length = writeBuffer.limit();
+        try {
+            writeAt(writeBuffer, diskSize);
+        } finally {
+            writeBuffer.clear();
+        }
+        diskSize += length;
+    }
+
+    private void writeAt(ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            position += segment.write(buf, position);
+        }
+    }
+
+    private void discardSegment() {
+        spilledCount = 0;
+        diskSize = 0;
+        if (writeBuffer != null) {
+            writeBuffer.clear();
+        }
+        try {
+            segment.truncate(0);
+        } catch (IOException e) {
+            System.err.println("Error truncating undo segment: " + e.getMessage());
+        }
+    }
+
+    private void addNewest(EWasteItem item) {
+        ensureCapacity();
+        ring[(head + count) % ring.length] = item;
+        count++;
+        bytes += estimateBytes(item);
+    }
+
+    private void addOldest(EWasteItem item) {
+        ensureCapacity();
+        head = (head - 1 + ring.length) % ring.length;
+        ring[head] = item;
+        count++;
+        bytes += estimateBytes(item);
+    }
+
+    private EWasteItem removeNewest() {
+        int index = (head + count - 1) % ring.length;
+        EWasteItem item = ring[index];
+        ring[index] = null;
+        count--;
+        bytes -= estimateBytes(item);
+        return item;
+    }
+
+    private EWasteItem removeOldest() {
+        EWasteItem item = ring[head];
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        count--;
+        bytes -= estimateBytes(item);
+        return item;
+    }
+
+    private void ensureCapacity() {
+        if (count < ring.length) {
+            return;
+        }
+        EWasteItem[] grown = new EWasteItem[ring.length * 2];
+        for (int i = 0; i < count; i++) {
+            grown[i] = ring[(head + i) % ring.length];
+        }
+        ring = grown;
+        head = 0;
+    }
+
+    private static long estimateBytes(EWasteItem item) {
+        return ITEM_OVERHEAD_BYTES + 2L * (item.getId().length() + item.getName().length()
+                                          + item.getCategory().length() + item.getCondition().length());
+    }
+}
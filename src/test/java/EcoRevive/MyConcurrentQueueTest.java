@@ -0,0 +1,93 @@
+package EcoRevive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+// Correctness of the lock-free intake queue. Throughput under heavier contention is measured by
+// QueueStressTest in the benchmarks profile.
+class MyConcurrentQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int ITEMS_PER_PRODUCER = 50_000;
+
+    @Test
+    void emptyQueueReturnsNothing() {
+        MyConcurrentQueue<String> queue = new MyConcurrentQueue<>();
+        assertNull(queue.dequeue());
+        assertNull(queue.peek());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void singleProducerIsFifoWithSequences() {
+        MyConcurrentQueue<String> queue = new MyConcurrentQueue<>();
+        queue.enqueue("a", 7);
+        queue.enqueue("b", 8);
+        queue.enqueue("c");
+        assertEquals(3, queue.size());
+        assertEquals("a", queue.peek());
+        assertEquals("a", queue.dequeue());
+        assertEquals(7, queue.lastSequence());
+        assertEquals("b", queue.dequeue());
+        assertEquals(8, queue.lastSequence());
+        assertEquals("c", queue.dequeue());
+        assertEquals(0, queue.lastSequence());
+        assertNull(queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    // Every item arrives exactly once, in order per producer, with the sequence its producer stamped
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void concurrentProducersDeliverEachItemOnceInProducerOrder() throws InterruptedException {
+        MyConcurrentQueue<Long> queue = new MyConcurrentQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            long producer = p;
+            producers.add(Thread.ofPlatform().name("producer-" + p).start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                    long value = producer << 32 | i;
+                    queue.enqueue(value, value);
+                }
+            }));
+        }
+
+        long[] expected = new long[PRODUCERS];
+        long total = (long) PRODUCERS * ITEMS_PER_PRODUCER;
+        start.countDown();
+        for (long received = 0; received < total; ) {
+            assertTrue(queue.size() >= 0, "size went negative");
+            Long value = queue.dequeue();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) (value >>> 32);
+            assertTrue(producer < PRODUCERS, "unknown producer " + producer);
+            assertEquals(expected[producer], value & 0xFFFFFFFFL, "out of order or duplicate from producer " + producer);
+            assertEquals((long) value, queue.lastSequence());
+            expected[producer]++;
+            received++;
+        }
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        assertNull(queue.dequeue());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+}